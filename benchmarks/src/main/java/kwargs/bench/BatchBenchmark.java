@@ -0,0 +1,84 @@
+package kwargs.bench;
+
+import kwargs.KWArgs;
+import kwargs.KWBatch;
+import kwargs.KWColumns;
+import kwargs.KWSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A batch of kwargs records: one kw() Map per record, or KWBatch columns parsed on a pool of 'threads' workers.
+ * Compare KWBatch across 'threads' for scaling with core count.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchBenchmark {
+    static final KWSchema SCHEMA = new KWSchema.Builder()
+            .key("id", long.class)
+            .key("x", double.class)
+            .key("y", double.class, 0.0)
+            .key("count", int.class, 1)
+            .key("name", String.class, null)
+            .build();
+
+    @Param({"1000000"})
+    public int records;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    List<Object[]> batch;
+    ForkJoinPool pool;
+
+    @Setup
+    public void setup() {
+        batch = new ArrayList<>(records);
+        for (int i = 0; i < records; i++) {
+            batch.add(i % 3 == 0
+                    ? new Object[]{"id", (long) i, "x", (double) i, "name", "n" + (i % 100)}
+                    : new Object[]{"id", (long) i, "x", (double) i, "y", 1.5, "count", i % 7});
+        }
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> kwPerRecord() {
+        List<Map<String, Object>> maps = new ArrayList<>(batch.size());
+        for (Object[] kwargs : batch) {
+            maps.add(KWArgs.kw(kwargs, "y", 0.0, "count", 1, "name", null));
+        }
+        return maps;
+    }
+
+    @Benchmark
+    public KWColumns kwBatch() throws ExecutionException, InterruptedException {
+        return pool.submit(() -> KWBatch.parse(SCHEMA, batch)).get();
+    }
+} // end class BatchBenchmark
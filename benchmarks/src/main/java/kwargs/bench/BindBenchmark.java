@@ -0,0 +1,45 @@
+package kwargs.bench;
+
+import kwargs.KWArgs;
+import kwargs.KWDefaults;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turning kwargs into a config record: by hand through kw(), or with bind().
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BindBenchmark {
+    public record Config(String host, int port, boolean tls, long timeout) {
+    }
+
+    static final KWDefaults DEFAULTS = KWDefaults.of("tls", true, "timeout", 30_000L);
+
+    public Object[] kwargs = {"host", "localhost", "port", 8080};
+
+    @Benchmark
+    public Config kwByHand() {
+        Map<String, Object> kwmap = KWArgs.kw(kwargs, "tls", true, "timeout", 30_000L);
+        return new Config((String) kwmap.get("host"), (Integer) kwmap.get("port"), (Boolean) kwmap.get("tls"), (Long) kwmap.get("timeout"));
+    }
+
+    @Benchmark
+    public Config bind() {
+        return KWArgs.bind(Config.class, kwargs, DEFAULTS);
+    }
+} // end class BindBenchmark
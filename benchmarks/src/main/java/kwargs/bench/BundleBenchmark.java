@@ -0,0 +1,89 @@
+package kwargs.bench;
+
+import kwargs.KWArgs;
+import kwargs.KWBundleReader;
+import kwargs.KWBundleWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replaying a file of recorded kw() calls: a KWBundleReader over the mapped file, or Java serialization of the HashMaps.
+ * Setup prints the size of each.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BundleBenchmark {
+    @Param({"100000"})
+    public int records;
+
+    Path bundle;
+    byte[] serialized;
+
+    @Setup
+    public void setup() throws IOException {
+        bundle = Files.createTempFile("kwargs", ".kwb");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (KWBundleWriter writer = KWBundleWriter.create(bundle); ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            for (int i = 0; i < records; i++) {
+                Object[] kwargs = {"user", "user" + (i % 1000), "num", i, "min", 0, "max", 100, "ratio", i / 3.0, "enabled", i % 2 == 0};
+                writer.write(kwargs);
+                out.writeObject(KWArgs.kw(kwargs));
+            }
+        }
+        serialized = bytes.toByteArray();
+        System.out.println("\nBundle: " + Files.size(bundle) + " bytes, serialized: " + serialized.length + " bytes");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(bundle);
+    }
+
+    @Benchmark
+    public long bundle() throws IOException {
+        long sum = 0;
+        try (KWBundleReader reader = KWBundleReader.open(bundle)) {
+            while (reader.next()) {
+                sum += reader.getInt(1) + reader.getInt(2) + reader.getInt(3) + (long) reader.getDouble(4);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public long serialized() throws IOException, ClassNotFoundException {
+        long sum = 0;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            for (int i = 0; i < records; i++) {
+                Map<String, Object> kwmap = (Map<String, Object>) in.readObject();
+                sum += (Integer) kwmap.get("num") + (Integer) kwmap.get("min") + (Integer) kwmap.get("max") + ((Double) kwmap.get("ratio")).longValue();
+            }
+        }
+        return sum;
+    }
+} // end class BundleBenchmark
@@ -0,0 +1,54 @@
+package kwargs.bench;
+
+import kwargs.KWArgs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * kw() from several call sites that collide in the call-site cache: same first key and arity, other keys differ,
+ * ex. kw("name", x, "k1", y) and kw("name", x, "k2", y). Up to KWCallSiteCache.WAYS sites stay cached side by side.
+ * Scores are per kw() call.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CallSiteBenchmark {
+    private static final int CALLS = 8;
+
+    @Param({"1", "2", "4", "8"})
+    public int sites;
+
+    Object[][] kwargs;
+
+    @Setup
+    public void setup() {
+        kwargs = new Object[sites][];
+        for (int site = 0; site < sites; site++) {
+            kwargs[site] = new Object[]{"name", "x", KWArgsData.key(site), site, "size", 4};
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLS)
+    public void kw(Blackhole bh) {
+        for (int i = 0; i < CALLS; i++) {
+            bh.consume(KWArgs.kw(kwargs[i % sites]));
+        }
+    }
+} // end class CallSiteBenchmark
@@ -0,0 +1,58 @@
+package kwargs.bench;
+
+import kwargs.KWArgs;
+import kwargs.KWDefaults;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A handler with many defaults, of which a call overrides a couple: defaultargs varargs vs frozen KWDefaults.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DefaultsBenchmark {
+    /** Number of defaults declared. */
+    @Param({"10", "20"})
+    public int defaultCount;
+
+    /** Number of defaults overridden by kwargs. */
+    @Param({"0", "2"})
+    public int overrides;
+
+    Object[] kwargs;
+    Object[] defaultargs;
+    KWDefaults frozen;
+
+    @Setup
+    public void setup() {
+        kwargs = KWArgsData.kwargs(overrides, i -> i);
+        defaultargs = KWArgsData.kwargs(defaultCount, i -> -i);
+        frozen = KWDefaults.of(defaultargs);
+    }
+
+    @Benchmark
+    public Map<String, Integer> defaultargs() {
+        return KWArgs.kwInteger(kwargs, defaultargs);
+    }
+
+    @Benchmark
+    public Map<String, Integer> kwDefaults() {
+        return KWArgs.kwInteger(kwargs, frozen);
+    }
+} // end class DefaultsBenchmark
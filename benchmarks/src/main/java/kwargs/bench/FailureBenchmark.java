@@ -0,0 +1,62 @@
+package kwargs.bench;
+
+import kwargs.KWArgs;
+import kwargs.KWResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rejecting invalid calls: a kwInteger() value of the wrong type in the last pair, thrown and caught, or returned by tryKw().
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FailureBenchmark {
+    @Param({"4"})
+    public int pairs;
+
+    Object[] kwargs;
+
+    @Setup
+    public void setup() {
+        kwargs = KWArgsData.kwargs(pairs, i -> i);
+        kwargs[kwargs.length - 1] = "not an int";
+    }
+
+    @Benchmark
+    public Object thrown() {
+        try {
+            return KWArgs.kwInteger(kwargs);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object thrownWithMessage() {
+        try {
+            return KWArgs.kwInteger(kwargs);
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public KWResult<Integer> tryKw() {
+        return KWArgs.tryKw(Integer.class, kwargs);
+    }
+} // end class FailureBenchmark
@@ -0,0 +1,42 @@
+package kwargs.bench;
+
+import kwargs.KWArgs;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Prints the heap footprint of one result Map, by number of pairs: kwInteger() (a HashMap), kw(), and kwCompact().
+ * A footprint is what one more Map adds to the heap, so keys, values, and anything shared between calls
+ * (ex. kw()'s call site layout) are not counted.
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar kwargs.bench.FootprintReport
+ * </pre>
+ */
+public class FootprintReport {
+    public static void main(String[] args) {
+        System.out.printf("%5s %12s %12s %12s%n", "pairs", "kwInteger", "kw", "kwCompact");
+        for (int pairs = 1; pairs <= 16; pairs++) {
+            Object[] kwargs = new Object[pairs * 2];
+            for (int i = 0; i < pairs; i++) {
+                kwargs[i * 2] = "key" + i;
+                kwargs[i * 2 + 1] = i;
+            }
+            System.out.printf("%5d %12d %12d %12d%n", pairs,
+                    footprint(kwargs, k -> KWArgs.kwInteger(k)),
+                    footprint(kwargs, k -> KWArgs.kw(k)),
+                    footprint(kwargs, k -> KWArgs.kwCompact(Integer.class, k)));
+        }
+    } // end main()
+
+    // Bytes added by a second Map of the same kwargs, from the same call site.
+    private static long footprint(Object[] kwargs, Function<Object[], Map<String, ?>> method) {
+        Map<String, ?> first = null, second = null;
+        for (int i = 0; i < 2; i++) {
+            first = second;
+            second = method.apply(kwargs);
+        }
+        return GraphLayout.parseInstance(first, second).totalSize() - GraphLayout.parseInstance(first).totalSize();
+    } // end footprint()
+} // end class FootprintReport
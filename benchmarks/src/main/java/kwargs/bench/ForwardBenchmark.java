@@ -0,0 +1,72 @@
+package kwargs.bench;
+
+import kwargs.KWArgs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * kwargs forwarded through a chain of calls, each overriding one keyword, then read once by the last callee.
+ * Compares copying the Map at every call with layering kwForward().
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ForwardBenchmark {
+    @Param({"16"})
+    public int pairs;
+
+    @Param({"1", "4", "16"})
+    public int calls;
+
+    Map<String, Object> kwmap;
+    String[] keys;
+
+    @Setup
+    public void setup() {
+        kwmap = KWArgs.kw(KWArgsData.kwargs(pairs, i -> i));
+        keys = new String[pairs];
+        for (int i = 0; i < pairs; i++) {
+            keys[i] = KWArgsData.key(i);
+        }
+    }
+
+    @Benchmark
+    public void copy(Blackhole bh) {
+        Map<String, Object> forwarded = kwmap;
+        for (int i = 0; i < calls; i++) {
+            forwarded = new HashMap<>(forwarded);
+            forwarded.put(keys[i % pairs], -i);
+        }
+        for (String key : keys) {
+            bh.consume(forwarded.get(key));
+        }
+    }
+
+    @Benchmark
+    public void kwForward(Blackhole bh) {
+        Map<String, Object> forwarded = kwmap;
+        for (int i = 0; i < calls; i++) {
+            forwarded = KWArgs.kwForward(forwarded, keys[i % pairs], -i);
+        }
+        for (String key : keys) {
+            bh.consume(forwarded.get(key));
+        }
+    }
+} // end class ForwardBenchmark
@@ -0,0 +1,80 @@
+package kwargs.bench;
+
+import kwargs.KWArgs;
+import kwargs.KWIntMap;
+import kwargs.KWSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The isInRange example from KWArgs, parsed each way the library offers.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IsInRangeBenchmark {
+    static final KWSchema RANGE = new KWSchema.Builder()
+            .key("num", int.class)
+            .key("min", int.class)
+            .key("max", int.class)
+            .build();
+    static final int NUM = RANGE.slot("num"), MIN = RANGE.slot("min"), MAX = RANGE.slot("max");
+
+    public Object[] objs = {"num", 6, "min", 2, "max", 7};
+    public int num = 6, min = 2, max = 7;
+
+    @Benchmark
+    public boolean kwInteger() {
+        Map<String, Integer> kwmap = KWArgs.kwInteger(objs);
+        int max = kwmap.get("max");
+        int min = kwmap.get("min");
+        int num = kwmap.get("num");
+        return num < max && num > min;
+    }
+
+    @Benchmark
+    public boolean kwIntMap() {
+        KWIntMap kwmap = KWArgs.kwIntMap(objs);
+        int max = kwmap.get("max");
+        int min = kwmap.get("min");
+        int num = kwmap.get("num");
+        return num < max && num > min;
+    }
+
+    @Benchmark
+    public boolean direct() {
+        return Ranges.isInRange(num, min, max);
+    }
+
+    @Benchmark
+    public boolean invoke() {
+        return (Boolean) KWArgs.invoke(Ranges.class, "isInRange", objs);
+    }
+
+    @Benchmark
+    public boolean generatedBuilder() {
+        return RangesKW.isInRange().num(num).min(min).max(max).call();
+    }
+
+    @Benchmark
+    public boolean schema() {
+        KWSchema.Args args = RANGE.parse(objs);
+        int max = args.getInt(MAX);
+        int min = args.getInt(MIN);
+        int num = args.getInt(NUM);
+        return num < max && num > min;
+    }
+} // end class IsInRangeBenchmark
@@ -0,0 +1,173 @@
+package kwargs.bench;
+
+import kwargs.KWArgs;
+import kwargs.KWBooleanMap;
+import kwargs.KWByteMap;
+import kwargs.KWCharMap;
+import kwargs.KWDoubleMap;
+import kwargs.KWFloatMap;
+import kwargs.KWIntMap;
+import kwargs.KWLongMap;
+import kwargs.KWShortMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Baseline cost of every KWArgs.kw* entry point, across argument counts and with or without default arguments.
+ * Throughput and SampleTime (latency percentiles) are reported; run through BenchmarkMain for the GC profiler.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class KWArgsBenchmark {
+    /** Number of key, value pairs passed as kwargs. */
+    @Param({"2", "4", "8", "16", "32", "64"})
+    public int pairs;
+
+    /** Whether defaultargs are passed too. Half of the default keys are overridden by kwargs. */
+    @Param({"false", "true"})
+    public boolean defaults;
+
+    Object[] objectArgs, stringArgs, doubleArgs, integerArgs, booleanArgs, characterArgs, byteArgs, shortArgs, longArgs, floatArgs;
+    Object[] objectDefaults, stringDefaults, doubleDefaults, integerDefaults, booleanDefaults, characterDefaults, byteDefaults, shortDefaults, longDefaults, floatDefaults;
+
+    @Setup
+    public void setup() {
+        objectArgs = KWArgsData.kwargs(pairs, i -> i % 2 == 0 ? "v" + i : (Object) i);
+        stringArgs = KWArgsData.kwargs(pairs, i -> "v" + i);
+        doubleArgs = KWArgsData.kwargs(pairs, i -> (double) i);
+        integerArgs = KWArgsData.kwargs(pairs, i -> i);
+        booleanArgs = KWArgsData.kwargs(pairs, i -> i % 2 == 0);
+        characterArgs = KWArgsData.kwargs(pairs, i -> (char) ('a' + i % 26));
+        byteArgs = KWArgsData.kwargs(pairs, i -> (byte) i);
+        shortArgs = KWArgsData.kwargs(pairs, i -> (short) i);
+        longArgs = KWArgsData.kwargs(pairs, i -> (long) i);
+        floatArgs = KWArgsData.kwargs(pairs, i -> (float) i);
+
+        objectDefaults = defaults(i -> "d" + i);
+        stringDefaults = defaults(i -> "d" + i);
+        doubleDefaults = defaults(i -> (double) -i);
+        integerDefaults = defaults(i -> -i);
+        booleanDefaults = defaults(i -> false);
+        characterDefaults = defaults(i -> 'z');
+        byteDefaults = defaults(i -> (byte) -i);
+        shortDefaults = defaults(i -> (short) -i);
+        longDefaults = defaults(i -> (long) -i);
+        floatDefaults = defaults(i -> (float) -i);
+    }
+
+    private Object[] defaults(IntFunction<Object> value) {
+        return defaults ? KWArgsData.defaultargs(pairs, value) : new Object[0];
+    }
+
+    @Benchmark
+    public Map<String, Object> kw() {
+        return KWArgs.kw(objectArgs, objectDefaults);
+    }
+
+    @Benchmark
+    public Map<String, Object> kwView() {
+        return KWArgs.kwView(objectArgs, objectDefaults);
+    }
+
+    @Benchmark
+    public Map<String, String> kwString() {
+        return KWArgs.kwString(stringArgs, stringDefaults);
+    }
+
+    @Benchmark
+    public Map<String, Double> kwDouble() {
+        return KWArgs.kwDouble(doubleArgs, doubleDefaults);
+    }
+
+    @Benchmark
+    public Map<String, Integer> kwInteger() {
+        return KWArgs.kwInteger(integerArgs, integerDefaults);
+    }
+
+    @Benchmark
+    public Map<String, Boolean> kwBoolean() {
+        return KWArgs.kwBoolean(booleanArgs, booleanDefaults);
+    }
+
+    @Benchmark
+    public Map<String, Character> kwCharacter() {
+        return KWArgs.kwCharacter(characterArgs, characterDefaults);
+    }
+
+    @Benchmark
+    public Map<String, Byte> kwByte() {
+        return KWArgs.kwByte(byteArgs, byteDefaults);
+    }
+
+    @Benchmark
+    public Map<String, Short> kwShort() {
+        return KWArgs.kwShort(shortArgs, shortDefaults);
+    }
+
+    @Benchmark
+    public Map<String, Long> kwLong() {
+        return KWArgs.kwLong(longArgs, longDefaults);
+    }
+
+    @Benchmark
+    public Map<String, Float> kwFloat() {
+        return KWArgs.kwFloat(floatArgs, floatDefaults);
+    }
+
+    @Benchmark
+    public KWIntMap kwIntMap() {
+        return KWArgs.kwIntMap(integerArgs, integerDefaults);
+    }
+
+    @Benchmark
+    public KWLongMap kwLongMap() {
+        return KWArgs.kwLongMap(longArgs, longDefaults);
+    }
+
+    @Benchmark
+    public KWDoubleMap kwDoubleMap() {
+        return KWArgs.kwDoubleMap(doubleArgs, doubleDefaults);
+    }
+
+    @Benchmark
+    public KWFloatMap kwFloatMap() {
+        return KWArgs.kwFloatMap(floatArgs, floatDefaults);
+    }
+
+    @Benchmark
+    public KWShortMap kwShortMap() {
+        return KWArgs.kwShortMap(shortArgs, shortDefaults);
+    }
+
+    @Benchmark
+    public KWByteMap kwByteMap() {
+        return KWArgs.kwByteMap(byteArgs, byteDefaults);
+    }
+
+    @Benchmark
+    public KWBooleanMap kwBooleanMap() {
+        return KWArgs.kwBooleanMap(booleanArgs, booleanDefaults);
+    }
+
+    @Benchmark
+    public KWCharMap kwCharMap() {
+        return KWArgs.kwCharMap(characterArgs, characterDefaults);
+    }
+} // end class KWArgsBenchmark
@@ -0,0 +1,37 @@
+package kwargs.bench;
+
+import java.util.function.IntFunction;
+
+/**
+ * Builds kwargs and defaultargs arrays for the benchmarks.
+ * Keys ("k0", "k1", ...) are interned, like the string literals real call sites pass.
+ */
+final class KWArgsData {
+    private KWArgsData() {
+    }
+
+    /** Key used at position 'i'. Interned, so every array built for the same 'i' shares one instance. */
+    static String key(int i) {
+        return ("k" + i).intern();
+    }
+
+    /** kwargs array with keys k0..k(pairs-1). */
+    static Object[] kwargs(int pairs, IntFunction<Object> value) {
+        Object[] kwargs = new Object[pairs * 2];
+        for (int i = 0; i < pairs; i++) {
+            kwargs[i * 2] = key(i);
+            kwargs[i * 2 + 1] = value.apply(i);
+        }
+        return kwargs;
+    }
+
+    /** defaultargs array with keys k(pairs/2)..k(pairs/2+pairs-1), so half of them are overridden by kwargs(pairs, ...). */
+    static Object[] defaultargs(int pairs, IntFunction<Object> value) {
+        Object[] defaultargs = new Object[pairs * 2];
+        for (int i = 0; i < pairs; i++) {
+            defaultargs[i * 2] = key(pairs / 2 + i);
+            defaultargs[i * 2 + 1] = value.apply(pairs / 2 + i);
+        }
+        return defaultargs;
+    }
+} // end class KWArgsData
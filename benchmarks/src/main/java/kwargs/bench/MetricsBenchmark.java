@@ -0,0 +1,65 @@
+package kwargs.bench;
+
+import kwargs.KWArgs;
+import kwargs.KWMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of KWMetrics: the same calls with instrumentation off and on.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MetricsBenchmark {
+    @Param({"false", "true"})
+    public boolean enabled;
+
+    @Param({"4"})
+    public int pairs;
+
+    Object[] kwargs;
+    Object[] defaultargs;
+
+    @Setup
+    public void setup() {
+        kwargs = KWArgsData.kwargs(pairs, i -> i);
+        defaultargs = KWArgsData.defaultargs(pairs, i -> -i);
+        if (enabled) {
+            KWMetrics.enable();
+        } else {
+            KWMetrics.disable();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        KWMetrics.disable();
+    }
+
+    @Benchmark
+    public Map<String, Object> kw() {
+        return KWArgs.kw(kwargs, defaultargs);
+    }
+
+    @Benchmark
+    public Map<String, Integer> kwInteger() {
+        return KWArgs.kwInteger(kwargs, defaultargs);
+    }
+} // end class MetricsBenchmark
@@ -0,0 +1,86 @@
+package kwargs.bench;
+
+import kwargs.KWArgs;
+import kwargs.KWIntMap;
+import kwargs.KWParser;
+import kwargs.KWSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filling int kwargs from 'key=value,key=value' text: split into substrings and kwInteger(), or KWParser in one pass.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParserBenchmark {
+    @Param({"4", "16"})
+    public int pairs;
+
+    String text;
+    ByteBuffer bytes;
+    KWIntMap defaults;
+    KWSchema schema;
+
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder();
+        String[] keys = new String[pairs];
+        int[] values = new int[pairs];
+        KWSchema.Builder builder = new KWSchema.Builder();
+        for (int i = 0; i < pairs; i++) {
+            keys[i] = KWArgsData.key(i);
+            builder.key(keys[i], int.class, 0);
+            sb.append(i == 0 ? "" : ",").append(keys[i]).append('=').append(i * 1000 + 7);
+        }
+        text = sb.toString();
+        bytes = ByteBuffer.allocateDirect(text.length());
+        bytes.put(text.getBytes(StandardCharsets.US_ASCII)).flip();
+        defaults = KWIntMap.of(keys, values);
+        schema = builder.build();
+    }
+
+    @Benchmark
+    public Map<String, Integer> splitKwInteger() {
+        String[] parts = text.split(",");
+        Object[] kwargs = new Object[parts.length * 2];
+        for (int i = 0; i < parts.length; i++) {
+            int eq = parts[i].indexOf('=');
+            kwargs[i * 2] = parts[i].substring(0, eq);
+            kwargs[i * 2 + 1] = Integer.parseInt(parts[i].substring(eq + 1));
+        }
+        return KWArgs.kwInteger(kwargs);
+    }
+
+    @Benchmark
+    public KWIntMap parseInts() {
+        return KWParser.DEFAULT.parseInts(text, defaults);
+    }
+
+    @Benchmark
+    public KWIntMap parseIntsDirectBuffer() {
+        return KWParser.DEFAULT.parseInts(bytes, defaults);
+    }
+
+    @Benchmark
+    public KWSchema.Args parseSchema() {
+        return KWParser.DEFAULT.parse(schema, text);
+    }
+} // end class ParserBenchmark
@@ -0,0 +1,14 @@
+package kwargs.bench;
+
+import kwargs.KWDefault;
+import kwargs.KWMethod;
+
+/**
+ * The isInRange example as a plain method, for the builder that KWMethodProcessor generates (RangesKW).
+ */
+public class Ranges {
+    @KWMethod
+    public static boolean isInRange(int num, @KWDefault("0") int min, @KWDefault("100") int max) {
+        return num < max && num > min;
+    } // end isInRange()
+} // end class Ranges
@@ -0,0 +1,62 @@
+package kwargs.bench;
+
+import kwargs.KWArgs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parse, then read every key once: the common shape of a call. Compares the copying kw() with the kwView() view.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReadOnceBenchmark {
+    @Param({"2", "4", "8", "16", "32"})
+    public int pairs;
+
+    Object[] kwargs;
+    Object[] defaultargs;
+    String[] keys;
+
+    @Setup
+    public void setup() {
+        kwargs = KWArgsData.kwargs(pairs, i -> i);
+        defaultargs = KWArgsData.defaultargs(pairs, i -> -i);
+        keys = new String[pairs];
+        for (int i = 0; i < pairs; i++) {
+            keys[i] = KWArgsData.key(i);
+        }
+    }
+
+    @Benchmark
+    public void kw(Blackhole bh) {
+        Map<String, Object> kwmap = KWArgs.kw(kwargs, defaultargs);
+        for (String key : keys) {
+            bh.consume(kwmap.get(key));
+        }
+    }
+
+    @Benchmark
+    public void kwView(Blackhole bh) {
+        Map<String, Object> kwmap = KWArgs.kwView(kwargs, defaultargs);
+        for (String key : keys) {
+            bh.consume(kwmap.get(key));
+        }
+    }
+} // end class ReadOnceBenchmark
@@ -0,0 +1,65 @@
+package kwargs.bench;
+
+import kwargs.KWArgs;
+import kwargs.KWScope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parse, read every key once, and drop the Map: a new Map per call from kw(), or a pooled one from scope().
+ * Check gc.alloc.rate.norm: scope() should allocate nothing, at any number of pairs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScopeBenchmark {
+    @Param({"4", "16"})
+    public int pairs;
+
+    Object[] kwargs;
+    Object[] defaultargs;
+    String[] keys;
+
+    @Setup
+    public void setup() {
+        kwargs = KWArgsData.kwargs(pairs, i -> i);
+        defaultargs = KWArgsData.defaultargs(pairs, i -> -i);
+        keys = new String[pairs];
+        for (int i = 0; i < pairs; i++) {
+            keys[i] = KWArgsData.key(i);
+        }
+    }
+
+    @Benchmark
+    public void kw(Blackhole bh) {
+        Map<String, Object> kwmap = KWArgs.kw(kwargs, defaultargs);
+        for (String key : keys) {
+            bh.consume(kwmap.get(key));
+        }
+    }
+
+    @Benchmark
+    public void scope(Blackhole bh) {
+        try (KWScope kwmap = KWArgs.scope(kwargs, defaultargs)) {
+            for (String key : keys) {
+                bh.consume(kwmap.get(key));
+            }
+        }
+    }
+} // end class ScopeBenchmark
@@ -0,0 +1,64 @@
+package kwargs.bench;
+
+import kwargs.KWArgs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A program parsing kwargs of several types: the per-type kwString(), kwInteger(), kwLong() and kwDouble(),
+ * against kw(Class, ...) for each type. Also kw(Long.class, ...) widening Integer values.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TypedBenchmark {
+    @Param({"4", "16"})
+    public int pairs;
+
+    Object[] stringArgs, integerArgs, longArgs, doubleArgs;
+
+    @Setup
+    public void setup() {
+        stringArgs = KWArgsData.kwargs(pairs, i -> "v" + i);
+        integerArgs = KWArgsData.kwargs(pairs, i -> i);
+        longArgs = KWArgsData.kwargs(pairs, i -> (long) i);
+        doubleArgs = KWArgsData.kwargs(pairs, i -> (double) i);
+    }
+
+    @Benchmark
+    public void perType(Blackhole bh) {
+        bh.consume(KWArgs.kwString(stringArgs));
+        bh.consume(KWArgs.kwInteger(integerArgs));
+        bh.consume(KWArgs.kwLong(longArgs));
+        bh.consume(KWArgs.kwDouble(doubleArgs));
+    }
+
+    @Benchmark
+    public void kwClass(Blackhole bh) {
+        bh.consume(KWArgs.kw(String.class, stringArgs));
+        bh.consume(KWArgs.kw(Integer.class, integerArgs));
+        bh.consume(KWArgs.kw(Long.class, longArgs));
+        bh.consume(KWArgs.kw(Double.class, doubleArgs));
+    }
+
+    @Benchmark
+    public Map<String, Long> kwClassWidening() {
+        return KWArgs.kw(Long.class, integerArgs);
+    }
+} // end class TypedBenchmark
@@ -0,0 +1,987 @@
+package kwargs;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Pass variables into methods based off name, not position. Inspired by Python's '**kwargs' magic variable.
+ * 'KW' == 'Keyword'
+ * 4/13/2022 Added support for default value arguments.
+ */
+public class KWArgs {
+    private static final Object[] NO_ARGS = new Object[0];
+
+    // Example
+    public static void main(String[] args) {
+        isInRange("num", 6, "min", 2, "max", 7);
+    } // end main()
+
+    // Example
+    private static final KWSchema RANGE = new KWSchema.Builder()
+            .key("num", int.class)
+            .key("min", int.class)
+            .key("max", int.class)
+            .build();
+    private static final int NUM = RANGE.slot("num"), MIN = RANGE.slot("min"), MAX = RANGE.slot("max");
+
+    // Example
+    private static void isInRange(Object... objs) {
+        KWSchema.Args args = RANGE.parse(objs);
+        int max = args.getInt(MAX);
+        int min = args.getInt(MIN);
+        int num = args.getInt(NUM);
+
+        if (num < max && num > min) {
+            System.out.println(num + " is in between " + min + " and " + max + ".");
+        } else {
+            System.out.println(num + " is NOT in between " + min + " and " + max + ".");
+        }
+    } // end isInRange()
+
+    /**
+     * Wraps Object vararg into Map, emulating Python's '**kwargs' magic variable. Dynamic.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Object (value).
+     * @param defaultargs Optional default values of kwargs in aforementioned kwargs format.
+     * @return Map of String to Object, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static Map<String, Object> kw(Object[] kwargs, Object... defaultargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measure("kw", kwargs, defaultargs, defaultargs.length / 2, KWArgs::parseKW);
+        }
+        return parseKW(kwargs, defaultargs);
+    } // end kw()
+
+    private static Map<String, Object> parseKW(Object[] kwargs, Object[] defaultargs) {
+        // Make sure the kwargs and defaultargs alternate between key,value,key,value,etc.
+        if (kwargs.length % 2 != 0) {
+            throw KWError.KWARGS_FORMAT.exception(kwargs.length - 1, null, null);
+        }
+        if (defaultargs.length % 2 != 0) {
+            throw KWError.DEFAULTS_FORMAT.exception(defaultargs.length - 1, null, null);
+        }
+
+        // Calls with the same key layout as an earlier call skip the checks and hashing below
+        Map<String, Object> cached = KWCallSiteCache.kw(kwargs, defaultargs);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Set any default arguments in keyword map
+        Map<String, Object> kwmap = new HashMap<>();
+        for (int i = 0; i < defaultargs.length; i = i + 2) {
+            if (!(defaultargs[i] instanceof String)) {
+                throw KWError.DEFAULT_KEY_TYPE.exception(i, defaultargs[i], String.class);
+            }
+            kwmap.put((String) defaultargs[i], defaultargs[i + 1]);
+        }
+
+        // Set keyword arguments in keyword map. Will overwrite any default arguments that were just set.
+        for (int i = 0; i < kwargs.length; i = i + 2) {
+            if (!(kwargs[i] instanceof String)) {
+                throw KWError.KEY_TYPE.exception(i, kwargs[i], String.class);
+            }
+            kwmap.put((String) kwargs[i], kwargs[i + 1]);
+        }
+        return kwmap;
+    } // end parseKW()
+
+    /**
+     * Wraps Object vararg into Map of the given type of values. Static, for any type: same as kwInteger() etc.
+     * for their types, except that numbers widen as in Java assignments, ex. an Integer is accepted where a Long is
+     * expected, and stored as Long.
+     *
+     * @param type Type of values, ex. Long.class. A primitive type (ex. long.class) stands for its wrapper.
+     * @param kwargs Object vararg, where args alternate between String (keyword) and type (value).
+     * @param defaultargs Optional default values of kwargs in aforementioned kwargs format.
+     * @return Map of String to type, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not of type, nor widens to it
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static <T> Map<String, T> kw(Class<T> type, Object[] kwargs, Object... defaultargs) {
+        KWConverter converter = KWConverter.widening(type);
+        if (KWMetrics.enabled) {
+            return KWMetrics.measure("kw", kwargs, defaultargs, defaultargs.length / 2, (k, d) -> parseKW(converter, k, d));
+        }
+        return parseKW(converter, kwargs, defaultargs);
+    } // end kw()
+
+    // Engine of the typed kw* methods: the converter checks, and may widen, each value.
+    @SuppressWarnings("unchecked")
+    private static <T> Map<String, T> parseKW(KWConverter converter, Object[] kwargs, Object[] defaultargs) {
+        // Make sure the kwargs and defaultargs alternate between key,value,key,value,etc.
+        if (kwargs.length % 2 != 0) {
+            throw KWError.KWARGS_FORMAT.exception(kwargs.length - 1, null, null);
+        }
+        if (defaultargs.length % 2 != 0) {
+            throw KWError.DEFAULTS_FORMAT.exception(defaultargs.length - 1, null, null);
+        }
+
+        // Set any default arguments in keyword map
+        Map<String, T> kwmap = new HashMap<>();
+        for (int i = 0; i < defaultargs.length; i = i + 2) {
+            Object value = converter.convert(defaultargs[i+1]);
+            if (value == null) {
+                throw KWError.DEFAULT_VALUE_TYPE.exception(i + 1, defaultargs[i+1], converter.type());
+            }
+            if (!(defaultargs[i] instanceof String)) {
+                throw KWError.DEFAULT_KEY_TYPE.exception(i, defaultargs[i], String.class);
+            }
+            kwmap.put((String) defaultargs[i], (T) value);
+        }
+
+        // Set keyword arguments in keyword map. Will overwrite any default arguments that were just set.
+        for (int i = 0; i < kwargs.length; i = i + 2) {
+            Object value = converter.convert(kwargs[i+1]);
+            if (value == null) {
+                throw KWError.VALUE_TYPE.exception(i + 1, kwargs[i+1], converter.type());
+            }
+            if (!(kwargs[i] instanceof String)) {
+                throw KWError.KEY_TYPE.exception(i, kwargs[i], String.class);
+            }
+            kwmap.put((String) kwargs[i], (T) value);
+        }
+        return kwmap;
+    } // end parseKW()
+
+    /**
+     * Same as {@link #kw(Object[], Object...)}, but with defaults validated once and shared between calls.
+     * Defaults are read through instead of copied into the Map, and only copied if a keyword overrides one.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Object (value).
+     * @param defaultargs Frozen default values of kwargs, see {@link KWDefaults#of}.
+     * @return Map of String to Object, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static Map<String, Object> kw(Object[] kwargs, KWDefaults defaultargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measure("kw", kwargs, defaultargs, defaultargs.size(), (k, d) -> new KWDefaultsMap<>(null, k, d));
+        }
+        return new KWDefaultsMap<>(null, kwargs, defaultargs);
+    } // end kw()
+
+    /**
+     * Same as {@link #kw(Object[], Object...)}, but never throws: a failure is returned as a {@link KWResult}
+     * holding its {@link KWError} and the index of the offending key or value. Cheap enough to reject untrusted input at high rates.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Object (value).
+     * @param defaultargs Optional default values of kwargs in aforementioned kwargs format.
+     * @return Map of String to Object, or the reason there is none.
+     */
+    public static KWResult<Object> tryKw(Object[] kwargs, Object... defaultargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measureResult("tryKw", kwargs, defaultargs, (k, d) -> KWResult.parse(null, k, d));
+        }
+        return KWResult.parse(null, kwargs, defaultargs);
+    } // end tryKw()
+
+    /**
+     * Same as {@link #tryKw(Object[], Object...)}, but every value must be of the given type, or widen to it, like {@link #kw(Class, Object[], Object...)}.
+     *
+     * @param type Type of values, ex. Long.class. A primitive type (ex. long.class) stands for its wrapper.
+     * @param kwargs Object vararg, where args alternate between String (keyword) and type (value).
+     * @param defaultargs Optional default values of kwargs in aforementioned kwargs format.
+     * @return Map of String to type, or the reason there is none.
+     */
+    public static <V> KWResult<V> tryKw(Class<V> type, Object[] kwargs, Object... defaultargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measureResult("tryKw", kwargs, defaultargs, (k, d) -> KWResult.parse(KWConverter.widening(type), k, d));
+        }
+        return KWResult.parse(KWConverter.widening(type), kwargs, defaultargs);
+    } // end tryKw()
+
+    /**
+     * Same as {@link #kw(Object[], Object...)}, but the Map is immutable and sized to the pairs it holds:
+     * one array of interleaved keys and values, instead of a HashMap's table and a node per entry.
+     * Meant for Maps kept around long after the call. Safe to share between threads as is.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Object (value).
+     * @param defaultargs Optional default values of kwargs in aforementioned kwargs format.
+     * @return Immutable Map of String to Object, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static Map<String, Object> kwCompact(Object[] kwargs, Object... defaultargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measure("kwCompact", kwargs, defaultargs, defaultargs.length / 2, (k, d) -> KWCompactMap.of(null, k, d));
+        }
+        return KWCompactMap.of(null, kwargs, defaultargs);
+    } // end kwCompact()
+
+    /**
+     * Same as {@link #kwCompact(Object[], Object...)}, but every value must be of the given type, or widen to it, like {@link #kw(Class, Object[], Object...)}.
+     *
+     * @param type Type of values, ex. Long.class. A primitive type (ex. long.class) stands for its wrapper.
+     * @param kwargs Object vararg, where args alternate between String (keyword) and type (value).
+     * @param defaultargs Optional default values of kwargs in aforementioned kwargs format.
+     * @return Immutable Map of String to type, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not of type, nor widens to it
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static <V> Map<String, V> kwCompact(Class<V> type, Object[] kwargs, Object... defaultargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measure("kwCompact", kwargs, defaultargs, defaultargs.length / 2, (k, d) -> KWCompactMap.of(KWConverter.widening(type), k, d));
+        }
+        return KWCompactMap.of(KWConverter.widening(type), kwargs, defaultargs);
+    } // end kwCompact()
+
+    /**
+     * Forwards kwargs to another method with some keywords added or overridden, without copying them: returns a
+     * {@link KWOverlay} holding only the given pairs over parent. Chain further with with() and without().
+     *
+     * @param parent kwargs received, ex. from kw().
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Object (value).
+     * @return Read-only Map of parent's pairs, overridden by kwargs.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static KWOverlay<Object> kwForward(Map<String, ?> parent, Object... kwargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measure("kwForward", kwargs, parent, parent.size(), (k, p) -> KWOverlay.of(null, p, k));
+        }
+        return KWOverlay.of(null, parent, kwargs);
+    } // end kwForward()
+
+    /**
+     * Same as {@link #kwForward(Map, Object...)}, but every value must be of the given type, or widen to it, like {@link #kw(Class, Object[], Object...)}.
+     *
+     * @param type Type of values, ex. Long.class. A primitive type (ex. long.class) stands for its wrapper.
+     * @param parent kwargs received, ex. from kwInteger().
+     * @param kwargs Object vararg, where args alternate between String (keyword) and type (value).
+     * @return Read-only Map of parent's pairs, overridden by kwargs.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not of type, nor widens to it
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static <V> KWOverlay<V> kwForward(Class<V> type, Map<String, ? extends V> parent, Object... kwargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measure("kwForward", kwargs, parent, parent.size(), (k, p) -> KWOverlay.of(type, p, k));
+        }
+        return KWOverlay.of(type, parent, kwargs);
+    } // end kwForward()
+
+    /**
+     * Same as {@link #kw(Object[], Object...)}, but the Map is borrowed from a pool and handed back on close(),
+     * so parsing allocates nothing in steady state. For kwargs only read within the call.
+     * <pre>
+     * try (KWScope kwmap = KWArgs.scope(kwargs, "min", 0)) { ... }
+     * </pre>
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Object (value).
+     * @param defaultargs Optional default values of kwargs in aforementioned kwargs format.
+     * @return Read-only Map of String to Object, valid until closed, and not to be kept after.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static KWScope scope(Object[] kwargs, Object... defaultargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measure("scope", kwargs, defaultargs, defaultargs.length / 2, KWScope::of);
+        }
+        return KWScope.of(kwargs, defaultargs);
+    } // end scope()
+
+    /**
+     * Calls a method, passing its arguments by name instead of position. Python's 'f(**kwargs)'.
+     * Parameter names come from the class file, so the method must be compiled with javac's '-parameters' flag.
+     * The method is resolved once per class, method name and key layout, then called through a cached MethodHandle.
+     *
+     * @param target Object to call an instance method on, or the Class of a static method.
+     * @param methodName Name of method.
+     * @param kwargs Object vararg, where args alternate between String (parameter name) and Object (value).
+     * @return Value returned by method, boxed, or null if void.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     * @throws IllegalArgumentException If no single method has exactly these parameter names
+     * @throws IllegalArgumentException If value in key-value pair is not of its parameter's type
+     * @throws java.lang.reflect.UndeclaredThrowableException If method throws a checked exception
+     */
+    public static Object invoke(Object target, String methodName, Object... kwargs) {
+        return KWInvoker.invoke(target, methodName, kwargs);
+    } // end invoke()
+
+    /**
+     * Builds a record (through its canonical constructor), or a POJO (through its no-arg constructor and fields),
+     * straight from kwargs, without an intermediate Map. How to build each class is worked out once and cached.
+     * Every record component must be passed. POJO fields not passed keep their initial value.
+     * A superclass field hidden by a subclass field of the same name is not bound.
+     *
+     * @param type Record or POJO class.
+     * @param kwargs Object vararg, where args alternate between String (component or field name) and Object (value).
+     * @return New instance of type.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws NoSuchElementException If a record component is not passed
+     * @throws IllegalArgumentException If key in key-value pair is not String, or not a component or field of type
+     * @throws IllegalArgumentException If value in key-value pair is not of its component or field's type
+     */
+    public static <T> T bind(Class<T> type, Object... kwargs) {
+        return KWBinder.bind(type, kwargs, null);
+    } // end bind()
+
+    /**
+     * Same as {@link #bind(Class, Object...)}, with default values for keywords not passed.
+     *
+     * @param type Record or POJO class.
+     * @param kwargs Object vararg, where args alternate between String (component or field name) and Object (value).
+     * @param defaultargs Default values of kwargs, see {@link KWDefaults#of}.
+     * @return New instance of type.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws NoSuchElementException If a record component is not passed, and has no default
+     * @throws IllegalArgumentException If key in key-value pair is not String, or not a component or field of type
+     * @throws IllegalArgumentException If value in key-value pair is not of its component or field's type
+     */
+    public static <T> T bind(Class<T> type, Object[] kwargs, KWDefaults defaultargs) {
+        return KWBinder.bind(type, kwargs, defaultargs);
+    } // end bind()
+
+    /**
+     * Same as {@link #kw(Object[], Object...)}, but the Map is a read-only view backed by kwargs and defaultargs
+     * instead of a copy. Keys are checked in one pass up front, values are looked up on demand.
+     * Cheapest when there are few pairs and each key is read once. Many pairs are indexed by hash automatically.
+     * kwargs and defaultargs must not be modified while the view is in use.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Object (value).
+     * @param defaultargs Optional default values of kwargs in aforementioned kwargs format.
+     * @return Read-only Map of String to Object, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static Map<String, Object> kwView(Object[] kwargs, Object... defaultargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measure("kwView", kwargs, defaultargs, defaultargs.length / 2, (k, d) -> new KWView<>(null, k, d));
+        }
+        return new KWView<>(null, kwargs, defaultargs);
+    } // end kwView()
+
+    /**
+     * Same as {@link #kwView(Object[], Object...)}, but every value must be of the given type, or widen to it, like {@link #kw(Class, Object[], Object...)}.
+     *
+     * @param type Type of values, ex. Long.class. A primitive type (ex. long.class) stands for its wrapper.
+     * @param kwargs Object vararg, where args alternate between String (keyword) and type (value).
+     * @param defaultargs Optional default values of kwargs in aforementioned kwargs format.
+     * @return Read-only Map of String to type, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not of type, nor widens to it
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static <V> Map<String, V> kwView(Class<V> type, Object[] kwargs, Object... defaultargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measure("kwView", kwargs, defaultargs, defaultargs.length / 2, (k, d) -> new KWView<V>(KWConverter.widening(type), k, d));
+        }
+        return new KWView<>(KWConverter.widening(type), kwargs, defaultargs);
+    } // end kwView()
+
+    /**
+     * Wraps Object vararg into Map, emulating Python's '**kwargs' magic variable. Static.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and String (value).
+     * @param defaultargs Optional default values of kwargs in aforementioned kwargs format.
+     * @return Map of String to String, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not String
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static Map<String, String> kwString(Object[] kwargs, Object... defaultargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measure("kwString", kwargs, defaultargs, defaultargs.length / 2, KWArgs::parseKWString);
+        }
+        return parseKWString(kwargs, defaultargs);
+    } // end kwString()
+
+    private static Map<String, String> parseKWString(Object[] kwargs, Object[] defaultargs) {
+        return parseKW(KWConverter.exact(String.class), kwargs, defaultargs);
+    } // end parseKWString()
+
+    /**
+     * Same as {@link #kwString(Object[], Object...)}, but with defaults validated once and shared between calls.
+     * Defaults are read through instead of copied into the Map, and only copied if a keyword overrides one.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and String (value).
+     * @param defaultargs Frozen default values of kwargs, see {@link KWDefaults#of}.
+     * @return Map of String to String, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not String
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static Map<String, String> kwString(Object[] kwargs, KWDefaults defaultargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measure("kwString", kwargs, defaultargs, defaultargs.size(), (k, d) -> new KWDefaultsMap<>(String.class, k, d));
+        }
+        return new KWDefaultsMap<>(String.class, kwargs, defaultargs);
+    } // end kwString()
+
+    /**
+     * Wraps Object vararg into Map, emulating Python's '**kwargs' magic variable. Static.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Double (value).
+     * @param defaultargs Optional default values of kwargs in aforementioned kwargs format.
+     * @return Map of String to Double, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Double
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static Map<String, Double> kwDouble(Object[] kwargs, Object... defaultargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measure("kwDouble", kwargs, defaultargs, defaultargs.length / 2, KWArgs::parseKWDouble);
+        }
+        return parseKWDouble(kwargs, defaultargs);
+    } // end kwDouble()
+
+    private static Map<String, Double> parseKWDouble(Object[] kwargs, Object[] defaultargs) {
+        return parseKW(KWConverter.exact(Double.class), kwargs, defaultargs);
+    } // end parseKWDouble()
+
+    /**
+     * Same as {@link #kwDouble(Object[], Object...)}, but with defaults validated once and shared between calls.
+     * Defaults are read through instead of copied into the Map, and only copied if a keyword overrides one.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Double (value).
+     * @param defaultargs Frozen default values of kwargs, see {@link KWDefaults#of}.
+     * @return Map of String to Double, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Double
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static Map<String, Double> kwDouble(Object[] kwargs, KWDefaults defaultargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measure("kwDouble", kwargs, defaultargs, defaultargs.size(), (k, d) -> new KWDefaultsMap<>(Double.class, k, d));
+        }
+        return new KWDefaultsMap<>(Double.class, kwargs, defaultargs);
+    } // end kwDouble()
+
+    /**
+     * Wraps Object vararg into Map, emulating Python's '**kwargs' magic variable. Static.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Integer (value).
+     * @param defaultargs Optional default values of kwargs in aforementioned kwargs format.
+     * @return Map of String to Integer, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Integer
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static Map<String, Integer> kwInteger(Object[] kwargs, Object... defaultargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measure("kwInteger", kwargs, defaultargs, defaultargs.length / 2, KWArgs::parseKWInteger);
+        }
+        return parseKWInteger(kwargs, defaultargs);
+    } // end kwInteger()
+
+    private static Map<String, Integer> parseKWInteger(Object[] kwargs, Object[] defaultargs) {
+        return parseKW(KWConverter.exact(Integer.class), kwargs, defaultargs);
+    } // end parseKWInteger()
+
+    /**
+     * Same as {@link #kwInteger(Object[], Object...)}, but with defaults validated once and shared between calls.
+     * Defaults are read through instead of copied into the Map, and only copied if a keyword overrides one.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Integer (value).
+     * @param defaultargs Frozen default values of kwargs, see {@link KWDefaults#of}.
+     * @return Map of String to Integer, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Integer
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static Map<String, Integer> kwInteger(Object[] kwargs, KWDefaults defaultargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measure("kwInteger", kwargs, defaultargs, defaultargs.size(), (k, d) -> new KWDefaultsMap<>(Integer.class, k, d));
+        }
+        return new KWDefaultsMap<>(Integer.class, kwargs, defaultargs);
+    } // end kwInteger()
+
+    /**
+     * Wraps Object vararg into Map, emulating Python's '**kwargs' magic variable. Static.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Boolean (value).
+     * @param defaultargs Optional default values of kwargs in aforementioned kwargs format.
+     * @return Map of String to Boolean, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Boolean
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static Map<String, Boolean> kwBoolean(Object[] kwargs, Object... defaultargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measure("kwBoolean", kwargs, defaultargs, defaultargs.length / 2, KWArgs::parseKWBoolean);
+        }
+        return parseKWBoolean(kwargs, defaultargs);
+    } // end kwBoolean()
+
+    private static Map<String, Boolean> parseKWBoolean(Object[] kwargs, Object[] defaultargs) {
+        return parseKW(KWConverter.exact(Boolean.class), kwargs, defaultargs);
+    } // end parseKWBoolean()
+
+    /**
+     * Same as {@link #kwBoolean(Object[], Object...)}, but with defaults validated once and shared between calls.
+     * Defaults are read through instead of copied into the Map, and only copied if a keyword overrides one.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Boolean (value).
+     * @param defaultargs Frozen default values of kwargs, see {@link KWDefaults#of}.
+     * @return Map of String to Boolean, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Boolean
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static Map<String, Boolean> kwBoolean(Object[] kwargs, KWDefaults defaultargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measure("kwBoolean", kwargs, defaultargs, defaultargs.size(), (k, d) -> new KWDefaultsMap<>(Boolean.class, k, d));
+        }
+        return new KWDefaultsMap<>(Boolean.class, kwargs, defaultargs);
+    } // end kwBoolean()
+
+    /**
+     * Wraps Object vararg into Map, emulating Python's '**kwargs' magic variable. Static.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Character (value).
+     * @param defaultargs Optional default values of kwargs in aforementioned kwargs format.
+     * @return Map of String to Character, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Character
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static Map<String, Character> kwCharacter(Object[] kwargs, Object... defaultargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measure("kwCharacter", kwargs, defaultargs, defaultargs.length / 2, KWArgs::parseKWCharacter);
+        }
+        return parseKWCharacter(kwargs, defaultargs);
+    } // end kwCharacter()
+
+    private static Map<String, Character> parseKWCharacter(Object[] kwargs, Object[] defaultargs) {
+        return parseKW(KWConverter.exact(Character.class), kwargs, defaultargs);
+    } // end parseKWCharacter()
+
+    /**
+     * Same as {@link #kwCharacter(Object[], Object...)}, but with defaults validated once and shared between calls.
+     * Defaults are read through instead of copied into the Map, and only copied if a keyword overrides one.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Character (value).
+     * @param defaultargs Frozen default values of kwargs, see {@link KWDefaults#of}.
+     * @return Map of String to Character, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Character
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static Map<String, Character> kwCharacter(Object[] kwargs, KWDefaults defaultargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measure("kwCharacter", kwargs, defaultargs, defaultargs.size(), (k, d) -> new KWDefaultsMap<>(Character.class, k, d));
+        }
+        return new KWDefaultsMap<>(Character.class, kwargs, defaultargs);
+    } // end kwCharacter()
+
+    /**
+     * Wraps Object vararg into Map, emulating Python's '**kwargs' magic variable. Static.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Byte (value).
+     * @param defaultargs Optional default values of kwargs in aforementioned kwargs format.
+     * @return Map of String to Byte, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Byte
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static Map<String, Byte> kwByte(Object[] kwargs, Object... defaultargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measure("kwByte", kwargs, defaultargs, defaultargs.length / 2, KWArgs::parseKWByte);
+        }
+        return parseKWByte(kwargs, defaultargs);
+    } // end kwByte()
+
+    private static Map<String, Byte> parseKWByte(Object[] kwargs, Object[] defaultargs) {
+        return parseKW(KWConverter.exact(Byte.class), kwargs, defaultargs);
+    } // end parseKWByte()
+
+    /**
+     * Same as {@link #kwByte(Object[], Object...)}, but with defaults validated once and shared between calls.
+     * Defaults are read through instead of copied into the Map, and only copied if a keyword overrides one.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Byte (value).
+     * @param defaultargs Frozen default values of kwargs, see {@link KWDefaults#of}.
+     * @return Map of String to Byte, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Byte
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static Map<String, Byte> kwByte(Object[] kwargs, KWDefaults defaultargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measure("kwByte", kwargs, defaultargs, defaultargs.size(), (k, d) -> new KWDefaultsMap<>(Byte.class, k, d));
+        }
+        return new KWDefaultsMap<>(Byte.class, kwargs, defaultargs);
+    } // end kwByte()
+
+    /**
+     * Wraps Object vararg into Map, emulating Python's '**kwargs' magic variable. Static.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Short (value).
+     * @param defaultargs Optional default values of kwargs in aforementioned kwargs format.
+     * @return Map of String to Short, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Short
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static Map<String, Short> kwShort(Object[] kwargs, Object... defaultargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measure("kwShort", kwargs, defaultargs, defaultargs.length / 2, KWArgs::parseKWShort);
+        }
+        return parseKWShort(kwargs, defaultargs);
+    } // end kwShort()
+
+    private static Map<String, Short> parseKWShort(Object[] kwargs, Object[] defaultargs) {
+        return parseKW(KWConverter.exact(Short.class), kwargs, defaultargs);
+    } // end parseKWShort()
+
+    /**
+     * Same as {@link #kwShort(Object[], Object...)}, but with defaults validated once and shared between calls.
+     * Defaults are read through instead of copied into the Map, and only copied if a keyword overrides one.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Short (value).
+     * @param defaultargs Frozen default values of kwargs, see {@link KWDefaults#of}.
+     * @return Map of String to Short, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Short
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static Map<String, Short> kwShort(Object[] kwargs, KWDefaults defaultargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measure("kwShort", kwargs, defaultargs, defaultargs.size(), (k, d) -> new KWDefaultsMap<>(Short.class, k, d));
+        }
+        return new KWDefaultsMap<>(Short.class, kwargs, defaultargs);
+    } // end kwShort()
+
+    /**
+     * Wraps Object vararg into Map, emulating Python's '**kwargs' magic variable. Static.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Long (value).
+     * @param defaultargs Optional default values of kwargs in aforementioned kwargs format.
+     * @return Map of String to Long, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Long
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static Map<String, Long> kwLong(Object[] kwargs, Object... defaultargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measure("kwLong", kwargs, defaultargs, defaultargs.length / 2, KWArgs::parseKWLong);
+        }
+        return parseKWLong(kwargs, defaultargs);
+    } // end kwLong()
+
+    private static Map<String, Long> parseKWLong(Object[] kwargs, Object[] defaultargs) {
+        return parseKW(KWConverter.exact(Long.class), kwargs, defaultargs);
+    } // end parseKWLong()
+
+    /**
+     * Same as {@link #kwLong(Object[], Object...)}, but with defaults validated once and shared between calls.
+     * Defaults are read through instead of copied into the Map, and only copied if a keyword overrides one.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Long (value).
+     * @param defaultargs Frozen default values of kwargs, see {@link KWDefaults#of}.
+     * @return Map of String to Long, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Long
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static Map<String, Long> kwLong(Object[] kwargs, KWDefaults defaultargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measure("kwLong", kwargs, defaultargs, defaultargs.size(), (k, d) -> new KWDefaultsMap<>(Long.class, k, d));
+        }
+        return new KWDefaultsMap<>(Long.class, kwargs, defaultargs);
+    } // end kwLong()
+
+    /**
+     * Wraps Object vararg into Map, emulating Python's '**kwargs' magic variable. Static.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Float (value).
+     * @param defaultargs Optional default values of kwargs in aforementioned kwargs format.
+     * @return Map of String to Float, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Float
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static Map<String, Float> kwFloat(Object[] kwargs, Object... defaultargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measure("kwFloat", kwargs, defaultargs, defaultargs.length / 2, KWArgs::parseKWFloat);
+        }
+        return parseKWFloat(kwargs, defaultargs);
+    } // end kwFloat()
+
+    private static Map<String, Float> parseKWFloat(Object[] kwargs, Object[] defaultargs) {
+        return parseKW(KWConverter.exact(Float.class), kwargs, defaultargs);
+    } // end parseKWFloat()
+
+    /**
+     * Same as {@link #kwFloat(Object[], Object...)}, but with defaults validated once and shared between calls.
+     * Defaults are read through instead of copied into the Map, and only copied if a keyword overrides one.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Float (value).
+     * @param defaultargs Frozen default values of kwargs, see {@link KWDefaults#of}.
+     * @return Map of String to Float, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Float
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static Map<String, Float> kwFloat(Object[] kwargs, KWDefaults defaultargs) {
+        if (KWMetrics.enabled) {
+            return KWMetrics.measure("kwFloat", kwargs, defaultargs, defaultargs.size(), (k, d) -> new KWDefaultsMap<>(Float.class, k, d));
+        }
+        return new KWDefaultsMap<>(Float.class, kwargs, defaultargs);
+    } // end kwFloat()
+
+    /**
+     * Wraps Object vararg into an int-valued map, emulating Python's '**kwargs' magic variable. Static.
+     * Like {@link #kwInteger}, but values are unboxed once here instead of on every read.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Integer (value).
+     * @param defaultargs Optional default values of kwargs in aforementioned kwargs format.
+     * @return Map of String to int, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Integer
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static KWIntMap kwIntMap(Object[] kwargs, Object... defaultargs) {
+        return putAll(new KWIntMap((kwargs.length + defaultargs.length) / 2), Integer.class, kwargs, defaultargs);
+    } // end kwIntMap()
+
+    /**
+     * Same as {@link #kwIntMap(Object[], Object...)}, but with default values that were never boxed.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Integer (value).
+     * @param defaultargs Default values of kwargs. Not modified.
+     * @return Map of String to int, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Integer
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static KWIntMap kwIntMap(Object[] kwargs, KWIntMap defaultargs) {
+        // Set keyword arguments over a copy of the defaults.
+        return putAll(defaultargs.copy(kwargs.length / 2), Integer.class, kwargs, NO_ARGS);
+    } // end kwIntMap()
+
+    /**
+     * Wraps Object vararg into a long-valued map, emulating Python's '**kwargs' magic variable. Static.
+     * Like {@link #kwLong}, but values are unboxed once here instead of on every read.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Long (value).
+     * @param defaultargs Optional default values of kwargs in aforementioned kwargs format.
+     * @return Map of String to long, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Long
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static KWLongMap kwLongMap(Object[] kwargs, Object... defaultargs) {
+        return putAll(new KWLongMap((kwargs.length + defaultargs.length) / 2), Long.class, kwargs, defaultargs);
+    } // end kwLongMap()
+
+    /**
+     * Same as {@link #kwLongMap(Object[], Object...)}, but with default values that were never boxed.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Long (value).
+     * @param defaultargs Default values of kwargs. Not modified.
+     * @return Map of String to long, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Long
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static KWLongMap kwLongMap(Object[] kwargs, KWLongMap defaultargs) {
+        // Set keyword arguments over a copy of the defaults.
+        return putAll(defaultargs.copy(kwargs.length / 2), Long.class, kwargs, NO_ARGS);
+    } // end kwLongMap()
+
+    /**
+     * Wraps Object vararg into a double-valued map, emulating Python's '**kwargs' magic variable. Static.
+     * Like {@link #kwDouble}, but values are unboxed once here instead of on every read.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Double (value).
+     * @param defaultargs Optional default values of kwargs in aforementioned kwargs format.
+     * @return Map of String to double, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Double
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static KWDoubleMap kwDoubleMap(Object[] kwargs, Object... defaultargs) {
+        return putAll(new KWDoubleMap((kwargs.length + defaultargs.length) / 2), Double.class, kwargs, defaultargs);
+    } // end kwDoubleMap()
+
+    /**
+     * Same as {@link #kwDoubleMap(Object[], Object...)}, but with default values that were never boxed.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Double (value).
+     * @param defaultargs Default values of kwargs. Not modified.
+     * @return Map of String to double, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Double
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static KWDoubleMap kwDoubleMap(Object[] kwargs, KWDoubleMap defaultargs) {
+        // Set keyword arguments over a copy of the defaults.
+        return putAll(defaultargs.copy(kwargs.length / 2), Double.class, kwargs, NO_ARGS);
+    } // end kwDoubleMap()
+
+    /**
+     * Wraps Object vararg into a float-valued map, emulating Python's '**kwargs' magic variable. Static.
+     * Like {@link #kwFloat}, but values are unboxed once here instead of on every read.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Float (value).
+     * @param defaultargs Optional default values of kwargs in aforementioned kwargs format.
+     * @return Map of String to float, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Float
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static KWFloatMap kwFloatMap(Object[] kwargs, Object... defaultargs) {
+        return putAll(new KWFloatMap((kwargs.length + defaultargs.length) / 2), Float.class, kwargs, defaultargs);
+    } // end kwFloatMap()
+
+    /**
+     * Same as {@link #kwFloatMap(Object[], Object...)}, but with default values that were never boxed.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Float (value).
+     * @param defaultargs Default values of kwargs. Not modified.
+     * @return Map of String to float, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Float
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static KWFloatMap kwFloatMap(Object[] kwargs, KWFloatMap defaultargs) {
+        // Set keyword arguments over a copy of the defaults.
+        return putAll(defaultargs.copy(kwargs.length / 2), Float.class, kwargs, NO_ARGS);
+    } // end kwFloatMap()
+
+    /**
+     * Wraps Object vararg into a short-valued map, emulating Python's '**kwargs' magic variable. Static.
+     * Like {@link #kwShort}, but values are unboxed once here instead of on every read.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Short (value).
+     * @param defaultargs Optional default values of kwargs in aforementioned kwargs format.
+     * @return Map of String to short, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Short
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static KWShortMap kwShortMap(Object[] kwargs, Object... defaultargs) {
+        return putAll(new KWShortMap((kwargs.length + defaultargs.length) / 2), Short.class, kwargs, defaultargs);
+    } // end kwShortMap()
+
+    /**
+     * Same as {@link #kwShortMap(Object[], Object...)}, but with default values that were never boxed.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Short (value).
+     * @param defaultargs Default values of kwargs. Not modified.
+     * @return Map of String to short, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Short
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static KWShortMap kwShortMap(Object[] kwargs, KWShortMap defaultargs) {
+        // Set keyword arguments over a copy of the defaults.
+        return putAll(defaultargs.copy(kwargs.length / 2), Short.class, kwargs, NO_ARGS);
+    } // end kwShortMap()
+
+    /**
+     * Wraps Object vararg into a byte-valued map, emulating Python's '**kwargs' magic variable. Static.
+     * Like {@link #kwByte}, but values are unboxed once here instead of on every read.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Byte (value).
+     * @param defaultargs Optional default values of kwargs in aforementioned kwargs format.
+     * @return Map of String to byte, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Byte
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static KWByteMap kwByteMap(Object[] kwargs, Object... defaultargs) {
+        return putAll(new KWByteMap((kwargs.length + defaultargs.length) / 2), Byte.class, kwargs, defaultargs);
+    } // end kwByteMap()
+
+    /**
+     * Same as {@link #kwByteMap(Object[], Object...)}, but with default values that were never boxed.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Byte (value).
+     * @param defaultargs Default values of kwargs. Not modified.
+     * @return Map of String to byte, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Byte
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static KWByteMap kwByteMap(Object[] kwargs, KWByteMap defaultargs) {
+        // Set keyword arguments over a copy of the defaults.
+        return putAll(defaultargs.copy(kwargs.length / 2), Byte.class, kwargs, NO_ARGS);
+    } // end kwByteMap()
+
+    /**
+     * Wraps Object vararg into a boolean-valued map, emulating Python's '**kwargs' magic variable. Static.
+     * Like {@link #kwBoolean}, but values are unboxed once here instead of on every read.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Boolean (value).
+     * @param defaultargs Optional default values of kwargs in aforementioned kwargs format.
+     * @return Map of String to boolean, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Boolean
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static KWBooleanMap kwBooleanMap(Object[] kwargs, Object... defaultargs) {
+        return putAll(new KWBooleanMap((kwargs.length + defaultargs.length) / 2), Boolean.class, kwargs, defaultargs);
+    } // end kwBooleanMap()
+
+    /**
+     * Same as {@link #kwBooleanMap(Object[], Object...)}, but with default values that were never boxed.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Boolean (value).
+     * @param defaultargs Default values of kwargs. Not modified.
+     * @return Map of String to boolean, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Boolean
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static KWBooleanMap kwBooleanMap(Object[] kwargs, KWBooleanMap defaultargs) {
+        // Set keyword arguments over a copy of the defaults.
+        return putAll(defaultargs.copy(kwargs.length / 2), Boolean.class, kwargs, NO_ARGS);
+    } // end kwBooleanMap()
+
+    /**
+     * Wraps Object vararg into a char-valued map, emulating Python's '**kwargs' magic variable. Static.
+     * Like {@link #kwCharacter}, but values are unboxed once here instead of on every read.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Character (value).
+     * @param defaultargs Optional default values of kwargs in aforementioned kwargs format.
+     * @return Map of String to char, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Character
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static KWCharMap kwCharMap(Object[] kwargs, Object... defaultargs) {
+        return putAll(new KWCharMap((kwargs.length + defaultargs.length) / 2), Character.class, kwargs, defaultargs);
+    } // end kwCharMap()
+
+    /**
+     * Same as {@link #kwCharMap(Object[], Object...)}, but with default values that were never boxed.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Character (value).
+     * @param defaultargs Default values of kwargs. Not modified.
+     * @return Map of String to char, such that each even index vararg 'i' corresponds to vararg 'i+1'.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If value in key-value pair is not Character
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static KWCharMap kwCharMap(Object[] kwargs, KWCharMap defaultargs) {
+        // Set keyword arguments over a copy of the defaults.
+        return putAll(defaultargs.copy(kwargs.length / 2), Character.class, kwargs, NO_ARGS);
+    } // end kwCharMap()
+
+    // Engine of the kw*Map methods: puts defaultargs, then kwargs, into kwmap, unboxing each value once.
+    // The map checks each value's type as it puts it, and KWCheck finds the error of the first pair it rejects.
+    private static <M extends KWPrimitiveMap> M putAll(M kwmap, Class<?> type, Object[] kwargs, Object[] defaultargs) {
+        KWCheck.checkFormat(kwargs, defaultargs);
+        for (int i = 0; i < defaultargs.length; i = i + 2) {
+            if (!(defaultargs[i] instanceof String) || !kwmap.putBoxed((String) defaultargs[i], defaultargs[i + 1])) {
+                KWCheck.checkPairs(KWConverter.exact(type), kwargs, defaultargs);
+            }
+        }
+        // Will overwrite any default arguments that were just set.
+        for (int i = 0; i < kwargs.length; i = i + 2) {
+            if (!(kwargs[i] instanceof String) || !kwmap.putBoxed((String) kwargs[i], kwargs[i + 1])) {
+                KWCheck.checkPairs(KWConverter.exact(type), kwargs, defaultargs);
+            }
+        }
+        return kwmap;
+    } // end putAll()
+} // end class KWArgs
@@ -0,0 +1,199 @@
+package kwargs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+
+/**
+ * Parses many kwargs records at once into {@link KWColumns}, instead of one Map per record.
+ * <pre>
+ * KWColumns columns = KWBatch.parse(SCHEMA, records);
+ * int[] ports = columns.ints(PORT);
+ * </pre>
+ * Keywords not passed in a record take their default (from the schema, or the given {@link KWDefaults}).
+ * Large batches are split into ranges of records parsed in parallel on a fork-join pool: the pool of the calling
+ * thread if it is a fork-join worker, the common pool otherwise. Each range writes its own rows of the shared
+ * column arrays, so nothing is merged afterwards.
+ * A stream is read in chunks of up to {@value #STREAM_CHUNK} records, each parsed the same way into columns that grow
+ * as needed, so only one chunk of records is held at a time. The first chunk is sized to the stream if its size is known,
+ * and chunks double from there, so a short stream doesn't pay for a full chunk.
+ * <p>
+ * The exception of a bad record tells which one it was in {@link KWTypeException#record()} (or {@link KWFormatException#record()}).
+ */
+public final class KWBatch {
+    // Fewest records worth a task of their own.
+    private static final int MIN_RECORDS_PER_TASK = 1024;
+    // Records of a stream read and parsed at a time.
+    private static final int STREAM_CHUNK = 64 * 1024;
+
+    private KWBatch() {
+    }
+
+    /**
+     * @param schema Keywords, types and defaults of every record.
+     * @param records Records, each an Object vararg where args alternate between String (keyword) and Object (value).
+     * @return Columns of values, by slot of schema.
+     * @throws NoSuchElementException If a record is not in key, value format, or lacks a keyword without default value
+     * @throws IllegalArgumentException If a key is not String or not part of schema, or a value is not of its keyword's type
+     */
+    public static KWColumns parse(KWSchema schema, List<Object[]> records) {
+        return parse(schema, records, null);
+    } // end parse()
+
+    /**
+     * Same as {@link #parse(KWSchema, List)}, with defaults applied on top of the schema's own.
+     *
+     * @param defaultargs Default values shared by every record, or null.
+     */
+    public static KWColumns parse(KWSchema schema, List<Object[]> records, KWDefaults defaultargs) {
+        if (!(records instanceof RandomAccess)) {
+            records = new ArrayList<>(records);
+        }
+        // Defaults of each slot, missing where a keyword is required
+        Object[] defaults = schema.fill(new Object[0], defaultargs);
+
+        KWColumns columns = new KWColumns(schema, records.size());
+        parse(schema, records, defaults, columns, 0);
+        return columns;
+    } // end parse()
+
+    /**
+     * Same as {@link #parse(KWSchema, List)}, for a stream of records.
+     */
+    public static KWColumns parse(KWSchema schema, Stream<Object[]> records) {
+        return parse(schema, records, null);
+    } // end parse()
+
+    /**
+     * Same as {@link #parse(KWSchema, List, KWDefaults)}, for a stream of records.
+     */
+    public static KWColumns parse(KWSchema schema, Stream<Object[]> records, KWDefaults defaultargs) {
+        Object[] defaults = schema.fill(new Object[0], defaultargs);
+        Spliterator<Object[]> spliterator = records.spliterator();
+        long size = spliterator.hasCharacteristics(Spliterator.SIZED) ? spliterator.estimateSize() : -1;
+        KWColumns columns = new KWColumns(schema, (int) Math.min(Math.max(size, 0), STREAM_CHUNK));
+        // Of the stream's size if known, else of a task's worth of records, doubled whenever it fills up
+        Object[][] chunk = new Object[(int) Math.max(1, size < 0 ? MIN_RECORDS_PER_TASK : Math.min(size, STREAM_CHUNK))][];
+        Iterator<Object[]> iterator = Spliterators.iterator(spliterator);
+        int rows = 0;
+        while (iterator.hasNext()) {
+            if (rows > 0 && chunk.length < STREAM_CHUNK) {
+                chunk = new Object[Math.min(chunk.length * 2, STREAM_CHUNK)][];
+            }
+            int n = 0;
+            while (n < chunk.length && iterator.hasNext()) {
+                chunk[n++] = iterator.next();
+            }
+            if (rows + n > columns.rows()) {
+                columns.resize(Math.max(rows + n, columns.rows() * 2));
+            }
+            parse(schema, Arrays.asList(chunk).subList(0, n), defaults, columns, rows);
+            rows = rows + n;
+        }
+        if (rows != columns.rows()) {
+            columns.resize(rows);
+        }
+        return columns;
+    } // end parse()
+
+    // Parses records into rows [first, first + records.size()) of columns, in parallel if there are enough.
+    private static void parse(KWSchema schema, List<Object[]> records, Object[] defaults, KWColumns columns, int first) {
+        int parallelism = ForkJoinTask.inForkJoinPool() ? ForkJoinTask.getPool().getParallelism() : ForkJoinPool.getCommonPoolParallelism();
+        int recordsPerTask = Math.max(MIN_RECORDS_PER_TASK, records.size() / (parallelism * 4) + 1);
+        Parse task = new Parse(schema, records, first, defaults, columns, first, first + records.size(), recordsPerTask);
+        if (records.size() <= recordsPerTask) {
+            task.parseRange();
+        } else if (ForkJoinTask.inForkJoinPool()) {
+            task.invoke();
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+    } // end parse()
+
+    /**
+     * Parses the records of rows [from, to), splitting in halves until a range is small enough.
+     */
+    private static final class Parse extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final KWSchema schema;
+        private final List<Object[]> records;
+        // Row of the first record
+        private final int first;
+        private final Object[] defaults;
+        private final KWColumns columns;
+        private final int from, to, recordsPerTask;
+
+        Parse(KWSchema schema, List<Object[]> records, int first, Object[] defaults, KWColumns columns, int from, int to, int recordsPerTask) {
+            this.schema = schema;
+            this.records = records;
+            this.first = first;
+            this.defaults = defaults;
+            this.columns = columns;
+            this.from = from;
+            this.to = to;
+            this.recordsPerTask = recordsPerTask;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= recordsPerTask) {
+                parseRange();
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new Parse(schema, records, first, defaults, columns, from, middle, recordsPerTask),
+                        new Parse(schema, records, first, defaults, columns, middle, to, recordsPerTask));
+            }
+        } // end compute()
+
+        void parseRange() {
+            // Start every row at its defaults, then overwrite with the keywords each record passes
+            int[] requiredSlots = new int[defaults.length];
+            int requiredCount = 0;
+            for (int slot = 0; slot < defaults.length; slot++) {
+                if (KWSchema.isMissing(defaults[slot])) {
+                    requiredSlots[requiredCount++] = slot;
+                } else {
+                    columns.fill(slot, from, to, defaults[slot]);
+                }
+            }
+            requiredSlots = Arrays.copyOf(requiredSlots, requiredCount);
+            // Row (plus 1) in which each slot was last passed
+            int[] passed = new int[defaults.length];
+
+            for (int row = from; row < to; row++) {
+                Object[] kwargs = records.get(row - first);
+                try {
+                    // Make sure the kwargs alternate between key,value,key,value,etc.
+                    if (kwargs.length % 2 != 0) {
+                        throw KWError.KWARGS_FORMAT.exception(kwargs.length - 1, null, null);
+                    }
+                    for (int i = 0; i < kwargs.length; i = i + 2) {
+                        int slot = schema.indexOf(kwargs[i], i);
+                        schema.check(slot, kwargs[i + 1], i + 1);
+                        columns.set(slot, row, kwargs[i + 1]);
+                        passed[slot] = row + 1;
+                    }
+                    for (int slot : requiredSlots) {
+                        if (passed[slot] != row + 1) {
+                            throw KWError.MISSING_KEY.exception(kwargs.length, schema.name(slot), null);
+                        }
+                    }
+                } catch (KWFormatException e) {
+                    throw e.inRecord(row);
+                } catch (KWTypeException e) {
+                    throw e.inRecord(row);
+                }
+            }
+        } // end parseRange()
+    } // end class Parse
+} // end class KWBatch
@@ -0,0 +1,127 @@
+package kwargs;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Implementation of {@link KWArgs#bind}. Builds a record, or fills a POJO, straight from kwargs.
+ * <p>
+ * Each class is inspected once into a binder, cached in a {@link ClassValue}: a {@link KWSchema} of its
+ * record components (or fields), and MethodHandles for its canonical constructor (or no-arg constructor and
+ * field setters). Binding then parses kwargs into the schema's flat slot array and passes it on, with no Map in between.
+ */
+final class KWBinder {
+    private static final ClassValue<KWBinder> BINDERS = new ClassValue<KWBinder>() {
+        @Override
+        protected KWBinder computeValue(Class<?> type) {
+            return new KWBinder(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final KWSchema schema;
+    // Records: (Object[] values)Object, the canonical constructor. POJOs: ()Object, the no-arg constructor.
+    private final MethodHandle constructor;
+    // POJOs only: (Object pojo, Object value)void per slot.
+    private final MethodHandle[] setters;
+
+    private KWBinder(Class<?> type) {
+        this.type = type;
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            if (type.isRecord()) {
+                RecordComponent[] components = type.getRecordComponents();
+                String[] names = new String[components.length];
+                Class<?>[] types = new Class<?>[components.length];
+                for (int i = 0; i < components.length; i++) {
+                    names[i] = components[i].getName();
+                    types[i] = components[i].getType();
+                }
+                Constructor<?> canonical = accessible(type.getDeclaredConstructor(types));
+                this.schema = KWSchema.required(names, types);
+                this.constructor = lookup.unreflectConstructor(canonical)
+                        .asType(MethodType.genericMethodType(types.length))
+                        .asSpreader(Object[].class, types.length);
+                this.setters = null;
+            } else {
+                List<Field> fields = new ArrayList<>();
+                // Subclasses first, so a field hidden by a subclass field of the same name is skipped, as in Java.
+                Set<String> seen = new HashSet<>();
+                for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                    for (Field field : c.getDeclaredFields()) {
+                        int modifiers = field.getModifiers();
+                        if (!Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers) && !Modifier.isTransient(modifiers)
+                                && seen.add(field.getName())) {
+                            fields.add(field);
+                        }
+                    }
+                }
+                String[] names = new String[fields.size()];
+                Class<?>[] types = new Class<?>[fields.size()];
+                this.setters = new MethodHandle[fields.size()];
+                for (int i = 0; i < fields.size(); i++) {
+                    names[i] = fields.get(i).getName();
+                    types[i] = fields.get(i).getType();
+                    setters[i] = lookup.unreflectSetter(accessible(fields.get(i)))
+                            .asType(MethodType.methodType(void.class, Object.class, Object.class));
+                }
+                // Fields of a POJO are optional: those not passed keep their initial value.
+                this.schema = KWSchema.required(names, types);
+                this.constructor = lookup.unreflectConstructor(accessible(type.getDeclaredConstructor()))
+                        .asType(MethodType.methodType(Object.class));
+            }
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("Class " + type.getSimpleName() + " has no " + (type.isRecord() ? "canonical" : "no-arg") + " constructor.", e);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Class " + type.getSimpleName() + " is not accessible.", e);
+        }
+    }
+
+    static <T> T bind(Class<T> type, Object[] kwargs, KWDefaults defaultargs) {
+        return type.cast(BINDERS.get(type).newInstance(kwargs, defaultargs));
+    } // end bind()
+
+    private Object newInstance(Object[] kwargs, KWDefaults defaultargs) {
+        Object[] values = schema.fill(kwargs, defaultargs);
+        try {
+            if (setters == null) {
+                // Every record component is required
+                for (int slot = 0; slot < values.length; slot++) {
+                    if (KWSchema.isMissing(values[slot])) {
+                        throw KWError.MISSING_KEY.exception(kwargs.length, schema.name(slot), null);
+                    }
+                }
+                return (Object) constructor.invokeExact(values);
+            }
+            Object pojo = (Object) constructor.invokeExact();
+            for (int slot = 0; slot < values.length; slot++) {
+                if (!KWSchema.isMissing(values[slot])) {
+                    setters[slot].invokeExact(pojo, values[slot]);
+                }
+            }
+            return pojo;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    } // end newInstance()
+
+    private <A extends AccessibleObject> A accessible(A member) {
+        if (!member.trySetAccessible()) {
+            throw new IllegalArgumentException("Class " + type.getSimpleName() + " is not accessible.");
+        }
+        return member;
+    } // end accessible()
+} // end class KWBinder
@@ -0,0 +1,78 @@
+package kwargs;
+
+/**
+ * Read-only map of String to boolean, without boxing. Returned by {@link KWArgs#kwBooleanMap}.
+ */
+public final class KWBooleanMap extends KWPrimitiveMap {
+    private final boolean[] values;
+
+    KWBooleanMap(int expected) {
+        super(expected);
+        values = new boolean[keys.length];
+    }
+
+    /**
+     * @param keys Keyword names.
+     * @param values Values of keywords, such that 'values[i]' corresponds to 'keys[i]'.
+     * @return Map of each key to its value. Later keys overwrite earlier ones.
+     * @throws IllegalArgumentException If keys and values differ in length
+     */
+    public static KWBooleanMap of(String[] keys, boolean[] values) {
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("Got " + keys.length + " keys but " + values.length + " values.");
+        }
+        KWBooleanMap kwmap = new KWBooleanMap(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            kwmap.put(keys[i], values[i]);
+        }
+        return kwmap;
+    } // end of()
+
+    // Copy of this map with room for 'extra' more keywords.
+    KWBooleanMap copy(int extra) {
+        KWBooleanMap kwmap = new KWBooleanMap(size() + extra);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                kwmap.put(keys[i], values[i]);
+            }
+        }
+        return kwmap;
+    } // end copy()
+
+    void put(String key, boolean value) {
+        values[insert(key)] = value;
+    } // end put()
+
+    @Override
+    boolean putBoxed(String key, Object value) {
+        if (!(value instanceof Boolean)) {
+            return false;
+        }
+        put(key, (Boolean) value);
+        return true;
+    } // end putBoxed()
+
+    /**
+     * @param key Keyword name.
+     * @return Value of keyword.
+     * @throws java.util.NoSuchElementException If map has no value for keyword
+     */
+    public boolean get(String key) {
+        return values[indexOf(key)];
+    } // end get()
+
+    /**
+     * @param key Keyword name.
+     * @param defaultValue Value returned if map has no value for keyword.
+     * @return Value of keyword, or defaultValue.
+     */
+    public boolean getOrDefault(String key, boolean defaultValue) {
+        int i = find(key);
+        return i < 0 ? defaultValue : values[i];
+    } // end getOrDefault()
+
+    @Override
+    void appendValue(StringBuilder sb, int i) {
+        sb.append(values[i]);
+    } // end appendValue()
+} // end class KWBooleanMap
@@ -0,0 +1,28 @@
+package kwargs;
+
+/**
+ * Format of kwargs bundle files, written by {@link KWBundleWriter} and read by {@link KWBundleReader}.
+ * <pre>
+ * bundle := MAGIC record*
+ * record := length:int32 pairs:varint pair*           (length counts the bytes after itself)
+ * pair   := key:varint tag:byte value
+ * key    := id &lt;&lt; 1          key seen before
+ *         | id &lt;&lt; 1 | 1 utf8  new key, takes the next id
+ * utf8   := length:varint byte*
+ * value  := (by tag) nothing for NULL, TRUE and FALSE; utf8 for STRING; zigzag varint for INT, SHORT and LONG;
+ *           big-endian 1, 2, 4 or 8 bytes for BYTE, CHAR, FLOAT and DOUBLE
+ * </pre>
+ * Keys are written once per bundle, then referred to by id, so a record costs little more than its values.
+ */
+final class KWBundle {
+    static final int MAGIC = 0x4B574201; // "KWB" 1
+
+    static final byte NULL = 0, STRING = 1, DOUBLE = 2, INT = 3, FALSE = 4, TRUE = 5, CHAR = 6, BYTE = 7, SHORT = 8, LONG = 9, FLOAT = 10;
+
+    // Type of value of each tag.
+    static final Class<?>[] TYPES = {Object.class, String.class, Double.class, Integer.class, Boolean.class, Boolean.class,
+            Character.class, Byte.class, Short.class, Long.class, Float.class};
+
+    private KWBundle() {
+    }
+} // end class KWBundle
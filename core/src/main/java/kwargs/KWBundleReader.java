@@ -0,0 +1,394 @@
+package kwargs;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads back the records of a bundle written by {@link KWBundleWriter}, one at a time.
+ * <pre>
+ * try (KWBundleReader reader = KWBundleReader.open(path)) {
+ *     while (reader.next()) {
+ *         int num = reader.getInt(reader.indexOf("num"));
+ *     }
+ * }
+ * </pre>
+ * Files are memory-mapped, a window of up to 1 GB at a time, so bundles of any size can be read.
+ * The reader is a cursor over the current record: keys come from the bundle's shared dictionary, and
+ * primitive values are decoded straight from the mapped bytes, so reading a record allocates nothing.
+ * Only getString(), get() (which boxes), and the first record using each key allocate.
+ * Not thread-safe.
+ */
+public final class KWBundleReader implements Closeable {
+    private static final long WINDOW = 1L << 30;
+
+    private final FileChannel channel;
+    private final long end;
+    // Bytes of the bundle from windowStart on.
+    private ByteBuffer buffer;
+    private long windowStart;
+
+    // Keys by id, and their ids by name.
+    private String[] keys = new String[16];
+    private int keyCount;
+    private final Map<String, Integer> keyIndex = new HashMap<>();
+
+    // Current record: where it ends, and key id, tag and value position of each pair.
+    private int recordEnd;
+    private int size;
+    private int[] keyIds = new int[16];
+    private byte[] tags = new byte[16];
+    private int[] positions = new int[16];
+
+    private KWBundleReader(FileChannel channel, ByteBuffer buffer, long end) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.end = end;
+        if (remaining() < 4 || buffer.getInt() != KWBundle.MAGIC) {
+            throw new IllegalArgumentException("Not a kwargs bundle.");
+        }
+    }
+
+    /**
+     * @param path Bundle file.
+     * @return Reader of bundle, positioned before its first record.
+     * @throws IOException If file cannot be opened or mapped
+     * @throws IllegalArgumentException If file is not a kwargs bundle
+     */
+    public static KWBundleReader open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long end = channel.size();
+            return new KWBundleReader(channel, channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(end, WINDOW)), end);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    } // end open()
+
+    /**
+     * @param bundle Bytes of a bundle, from its position to its limit, ex. a MappedByteBuffer. Not modified.
+     * @return Reader of bundle, positioned before its first record.
+     * @throws IllegalArgumentException If bytes are not a kwargs bundle
+     */
+    public static KWBundleReader of(ByteBuffer bundle) {
+        ByteBuffer buffer = bundle.slice();
+        return new KWBundleReader(null, buffer, buffer.limit());
+    } // end of()
+
+    /**
+     * Moves to the next record.
+     *
+     * @return If there was a next record.
+     * @throws IOException If the next window of the file cannot be mapped
+     * @throws IllegalStateException If the bundle is truncated or corrupt
+     */
+    public boolean next() throws IOException {
+        if (remaining() == 0) {
+            size = 0;
+            return false;
+        }
+        ensure(4);
+        int length = buffer.getInt();
+        ensure(length);
+        recordEnd = buffer.position() + length;
+
+        // Every pair takes at least 2 bytes, so a size past the record's end is corrupt, not a huge allocation
+        size = readLength();
+        if (size > keyIds.length) {
+            int capacity = Math.max(size, keyIds.length * 2);
+            keyIds = Arrays.copyOf(keyIds, capacity);
+            tags = Arrays.copyOf(tags, capacity);
+            positions = Arrays.copyOf(positions, capacity);
+        }
+        for (int i = 0; i < size; i++) {
+            long key = readVarint();
+            if ((key & 1) != 0) {
+                int keyLength = readLength();
+                String name = readUtf8(buffer.position(), keyLength);
+                // A new key takes the next id, and is new only once
+                if (key >>> 1 != keyCount || keyIndex.containsKey(name)) {
+                    throw corrupt();
+                }
+                addKey(name);
+                skip(keyLength);
+            }
+            if (key >>> 1 >= keyCount) {
+                throw corrupt();
+            }
+            keyIds[i] = (int) (key >>> 1);
+            byte tag = readByte();
+            tags[i] = tag;
+            positions[i] = buffer.position();
+            skipValue(tag);
+        }
+        if (buffer.position() != recordEnd) {
+            throw corrupt();
+        }
+        return true;
+    } // end next()
+
+    /**
+     * @return Number of pairs in current record.
+     */
+    public int size() {
+        return size;
+    } // end size()
+
+    /**
+     * @param i Index of pair in current record.
+     * @return Keyword of pair.
+     */
+    public String key(int i) {
+        return keys[keyIds[check(i)]];
+    } // end key()
+
+    /**
+     * @param key Keyword name.
+     * @return Index of the last pair with this keyword in current record, or -1 if none.
+     */
+    public int indexOf(String key) {
+        int id = keyIndex.getOrDefault(key, -1);
+        for (int i = size - 1; i >= 0 && id >= 0; i--) {
+            if (keyIds[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    } // end indexOf()
+
+    /**
+     * @param i Index of pair in current record.
+     * @return Type of value (ex. Integer.class), or Object.class if null.
+     */
+    public Class<?> type(int i) {
+        return KWBundle.TYPES[tags[check(i)]];
+    } // end type()
+
+    /**
+     * @param i Index of pair in current record.
+     * @return Value of pair, boxed.
+     */
+    public Object get(int i) {
+        switch (tags[check(i)]) {
+            case KWBundle.NULL: return null;
+            case KWBundle.STRING: return getString(i);
+            case KWBundle.DOUBLE: return getDouble(i);
+            case KWBundle.INT: return getInt(i);
+            case KWBundle.FALSE: return Boolean.FALSE;
+            case KWBundle.TRUE: return Boolean.TRUE;
+            case KWBundle.CHAR: return getChar(i);
+            case KWBundle.BYTE: return getByte(i);
+            case KWBundle.SHORT: return getShort(i);
+            case KWBundle.LONG: return getLong(i);
+            default: return getFloat(i);
+        }
+    } // end get()
+
+    public String getString(int i) {
+        return readUtf8(position(i, KWBundle.STRING));
+    } // end getString()
+
+    public double getDouble(int i) {
+        return buffer.getDouble(position(i, KWBundle.DOUBLE));
+    } // end getDouble()
+
+    public int getInt(int i) {
+        return (int) readZigzag(position(i, KWBundle.INT));
+    } // end getInt()
+
+    public boolean getBoolean(int i) {
+        if (tags[check(i)] != KWBundle.TRUE && tags[i] != KWBundle.FALSE) {
+            throw wrongType(i, KWBundle.TRUE);
+        }
+        return tags[i] == KWBundle.TRUE;
+    } // end getBoolean()
+
+    public char getChar(int i) {
+        return buffer.getChar(position(i, KWBundle.CHAR));
+    } // end getChar()
+
+    public byte getByte(int i) {
+        return buffer.get(position(i, KWBundle.BYTE));
+    } // end getByte()
+
+    public short getShort(int i) {
+        return (short) readZigzag(position(i, KWBundle.SHORT));
+    } // end getShort()
+
+    public long getLong(int i) {
+        return readZigzag(position(i, KWBundle.LONG));
+    } // end getLong()
+
+    public float getFloat(int i) {
+        return buffer.getFloat(position(i, KWBundle.FLOAT));
+    } // end getFloat()
+
+    /**
+     * @return Current record as kwargs, ex. to pass on to a kw* method.
+     */
+    public Object[] toKwargs() {
+        Object[] kwargs = new Object[size * 2];
+        for (int i = 0; i < size; i++) {
+            kwargs[i * 2] = key(i);
+            kwargs[i * 2 + 1] = get(i);
+        }
+        return kwargs;
+    } // end toKwargs()
+
+    /**
+     * @return Current record as a Map, same as kw() of {@link #toKwargs()}.
+     */
+    public Map<String, Object> toMap() {
+        return KWArgs.kw(toKwargs());
+    } // end toMap()
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    } // end close()
+
+    private int check(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Pair " + i + " out of " + size + ".");
+        }
+        return i;
+    } // end check()
+
+    // Position of the value of pair 'i', which must have the given tag.
+    private int position(int i, byte tag) {
+        if (tags[check(i)] != tag) {
+            throw wrongType(i, tag);
+        }
+        return positions[i];
+    } // end position()
+
+    private IllegalArgumentException wrongType(int i, byte tag) {
+        return new IllegalArgumentException("Value of keyword '" + key(i) + "' is of type " + type(i).getSimpleName() + ", not " + KWBundle.TYPES[tag].getSimpleName() + ".");
+    } // end wrongType()
+
+    private void addKey(String key) {
+        if (keyCount == keys.length) {
+            keys = Arrays.copyOf(keys, keyCount * 2);
+        }
+        keyIndex.put(key, keyCount);
+        keys[keyCount++] = key;
+    } // end addKey()
+
+    // Moves past a value of the current record, checking it ends within the record.
+    private void skipValue(byte tag) {
+        switch (tag) {
+            case KWBundle.NULL: case KWBundle.FALSE: case KWBundle.TRUE: break;
+            case KWBundle.STRING: skip(readLength()); break;
+            case KWBundle.INT: case KWBundle.SHORT: case KWBundle.LONG: readVarint(); break;
+            case KWBundle.DOUBLE: skip(8); break;
+            case KWBundle.FLOAT: skip(4); break;
+            case KWBundle.CHAR: skip(2); break;
+            case KWBundle.BYTE: skip(1); break;
+            default: throw corrupt();
+        }
+    } // end skipValue()
+
+    // Reads the byte at the buffer's position, within the current record.
+    private byte readByte() {
+        if (buffer.position() >= recordEnd) {
+            throw corrupt();
+        }
+        return buffer.get();
+    } // end readByte()
+
+    // Reads a varint at the buffer's position, within the current record, moving past it.
+    private long readVarint() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw corrupt();
+    } // end readVarint()
+
+    // Reads a count or length at the buffer's position, which can be no more than the bytes left in the record.
+    private int readLength() {
+        long length = readVarint();
+        if (length > recordEnd - buffer.position()) {
+            throw corrupt();
+        }
+        return (int) length;
+    } // end readLength()
+
+    // Moves the buffer 'bytes' bytes on, within the current record.
+    private void skip(int bytes) {
+        if (bytes > recordEnd - buffer.position()) {
+            throw corrupt();
+        }
+        buffer.position(buffer.position() + bytes);
+    } // end skip()
+
+    // Reads a varint in place, at a position of the current record already checked by next().
+    private long readVarint(int position) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get(position++);
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw corrupt();
+    } // end readVarint()
+
+    private long readZigzag(int position) {
+        long value = readVarint(position);
+        return (value >>> 1) ^ -(value & 1);
+    } // end readZigzag()
+
+    // Reads the length-prefixed UTF-8 string at position, already checked by next().
+    private String readUtf8(int position) {
+        int length = (int) readVarint(position);
+        while (buffer.get(position++) < 0) {
+            // Skip length's continuation bytes
+        }
+        return readUtf8(position, length);
+    } // end readUtf8()
+
+    private String readUtf8(int position, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(position, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    } // end readUtf8()
+
+    private long remaining() {
+        return end - windowStart - buffer.position();
+    } // end remaining()
+
+    // Makes sure the next 'bytes' bytes are in the window, moving the window up to the buffer's position if not.
+    private void ensure(int bytes) throws IOException {
+        if (bytes < 0 || bytes > remaining()) {
+            throw corrupt();
+        }
+        if (buffer.remaining() < bytes) {
+            long start = windowStart + buffer.position();
+            if (channel == null || bytes > WINDOW) {
+                throw corrupt();
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(end - start, WINDOW));
+            windowStart = start;
+        }
+    } // end ensure()
+
+    private IllegalStateException corrupt() {
+        return new IllegalStateException("Kwargs bundle is truncated or corrupt at offset " + (windowStart + buffer.position()) + ".");
+    } // end corrupt()
+} // end class KWBundleReader
@@ -0,0 +1,237 @@
+package kwargs;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes kwargs to a compact binary bundle, one record per call, for {@link KWBundleReader} to replay.
+ * Values may be null, String, Double, Integer, Boolean, Character, Byte, Short, Long or Float: the types of the kw* methods.
+ * <pre>
+ * try (KWBundleWriter writer = KWBundleWriter.create(path)) {
+ *     writer.write("num", 6, "min", 2, "max", 7);
+ * }
+ * </pre>
+ * See {@link KWBundle} for the format. Not thread-safe.
+ */
+public final class KWBundleWriter implements Closeable, Flushable {
+    private final OutputStream out;
+    // Id of each key written so far.
+    private final Map<String, Integer> keyIds = new HashMap<>();
+    private final List<String> keys = new ArrayList<>();
+    // Record being written, reused between records.
+    private byte[] record = new byte[256];
+    private int length;
+
+    /**
+     * @param out Stream to write to. Closed with this writer.
+     * @throws IOException If the header cannot be written
+     */
+    public KWBundleWriter(OutputStream out) throws IOException {
+        this.out = out instanceof BufferedOutputStream ? out : new BufferedOutputStream(out, 1 << 16);
+        writeInt(KWBundle.MAGIC);
+        this.out.write(record, 0, length);
+    }
+
+    /**
+     * @param path File to create, or overwrite.
+     * @return Writer of a new bundle at path.
+     * @throws IOException If the file cannot be created
+     */
+    public static KWBundleWriter create(Path path) throws IOException {
+        return new KWBundleWriter(Files.newOutputStream(path));
+    } // end create()
+
+    /**
+     * Appends one record.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Object (value).
+     * @throws java.util.NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If key in key-value pair is not String, or value is of a type bundles don't hold
+     * @throws IOException If the record cannot be written
+     */
+    public void write(Object... kwargs) throws IOException {
+        // Make sure the kwargs alternate between key,value,key,value,etc.
+        if (kwargs.length % 2 != 0) {
+            throw KWError.KWARGS_FORMAT.exception(kwargs.length - 1, null, null);
+        }
+        int keyCount = keys.size();
+        boolean written = false;
+        try {
+            startRecord(kwargs.length / 2);
+            for (int i = 0; i < kwargs.length; i = i + 2) {
+                if (!(kwargs[i] instanceof String)) {
+                    throw KWError.KEY_TYPE.exception(i, kwargs[i], String.class);
+                }
+                writeKey((String) kwargs[i]);
+                writeValue(kwargs[i + 1]);
+            }
+            endRecord();
+            written = true;
+        } finally {
+            if (!written) {
+                forgetKeys(keyCount);
+            }
+        }
+    } // end write()
+
+    /**
+     * Appends one record, ex. a Map returned by a kw* method.
+     *
+     * @param kwmap Map of keyword to value.
+     * @throws IllegalArgumentException If a value is of a type bundles don't hold
+     * @throws IOException If the record cannot be written
+     */
+    public void write(Map<String, ?> kwmap) throws IOException {
+        int keyCount = keys.size();
+        boolean written = false;
+        try {
+            startRecord(kwmap.size());
+            for (Map.Entry<String, ?> entry : kwmap.entrySet()) {
+                writeKey(entry.getKey());
+                writeValue(entry.getValue());
+            }
+            endRecord();
+            written = true;
+        } finally {
+            if (!written) {
+                forgetKeys(keyCount);
+            }
+        }
+    } // end write()
+
+    private void writeKey(String key) {
+        Integer id = keyIds.get(key);
+        if (id != null) {
+            writeVarint(id << 1);
+        } else {
+            writeVarint(keys.size() << 1 | 1);
+            keyIds.put(key, keys.size());
+            keys.add(key);
+            writeUtf8(key);
+        }
+    } // end writeKey()
+
+    private void writeValue(Object value) {
+        if (value == null) {
+            writeByte(KWBundle.NULL);
+        } else if (value instanceof String) {
+            writeByte(KWBundle.STRING);
+            writeUtf8((String) value);
+        } else if (value instanceof Double) {
+            writeByte(KWBundle.DOUBLE);
+            writeLong(Double.doubleToRawLongBits((Double) value));
+        } else if (value instanceof Integer) {
+            writeByte(KWBundle.INT);
+            writeZigzag((Integer) value);
+        } else if (value instanceof Boolean) {
+            writeByte((Boolean) value ? KWBundle.TRUE : KWBundle.FALSE);
+        } else if (value instanceof Character) {
+            writeByte(KWBundle.CHAR);
+            writeByte((Character) value >>> 8);
+            writeByte((Character) value);
+        } else if (value instanceof Byte) {
+            writeByte(KWBundle.BYTE);
+            writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            writeByte(KWBundle.SHORT);
+            writeZigzag((Short) value);
+        } else if (value instanceof Long) {
+            writeByte(KWBundle.LONG);
+            writeZigzag((Long) value);
+        } else if (value instanceof Float) {
+            writeByte(KWBundle.FLOAT);
+            writeInt(Float.floatToRawIntBits((Float) value));
+        } else {
+            throw new IllegalArgumentException("Value '" + value + "' of type " + KWError.typeName(value) + " cannot be written to a kwargs bundle.");
+        }
+    } // end writeValue()
+
+    private void startRecord(int pairs) {
+        length = 0;
+        writeInt(0);
+        writeVarint(pairs);
+    } // end startRecord()
+
+    // Sets the record's length, then hands it to the stream.
+    private void endRecord() throws IOException {
+        int body = length - 4;
+        record[0] = (byte) (body >>> 24);
+        record[1] = (byte) (body >>> 16);
+        record[2] = (byte) (body >>> 8);
+        record[3] = (byte) body;
+        out.write(record, 0, length);
+    } // end endRecord()
+
+    // Drops keys first used by a record that failed, in kwargs or in the stream, since it never reached the stream whole.
+    private void forgetKeys(int keyCount) {
+        while (keys.size() > keyCount) {
+            keyIds.remove(keys.remove(keys.size() - 1));
+        }
+    } // end forgetKeys()
+
+    private void writeUtf8(String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        writeVarint(bytes.length);
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, record, length, bytes.length);
+        length += bytes.length;
+    } // end writeUtf8()
+
+    private void writeZigzag(long value) {
+        writeVarint((value << 1) ^ (value >> 63));
+    } // end writeZigzag()
+
+    private void writeVarint(long value) {
+        ensure(10);
+        while ((value & ~0x7FL) != 0) {
+            record[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        record[length++] = (byte) value;
+    } // end writeVarint()
+
+    private void writeLong(long value) {
+        writeInt((int) (value >>> 32));
+        writeInt((int) value);
+    } // end writeLong()
+
+    private void writeInt(int value) {
+        ensure(4);
+        record[length++] = (byte) (value >>> 24);
+        record[length++] = (byte) (value >>> 16);
+        record[length++] = (byte) (value >>> 8);
+        record[length++] = (byte) value;
+    } // end writeInt()
+
+    private void writeByte(int value) {
+        ensure(1);
+        record[length++] = (byte) value;
+    } // end writeByte()
+
+    private void ensure(int bytes) {
+        if (length + bytes > record.length) {
+            record = Arrays.copyOf(record, Math.max(record.length * 2, length + bytes));
+        }
+    } // end ensure()
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    } // end flush()
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    } // end close()
+} // end class KWBundleWriter
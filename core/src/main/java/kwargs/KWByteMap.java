@@ -0,0 +1,78 @@
+package kwargs;
+
+/**
+ * Read-only map of String to byte, without boxing. Returned by {@link KWArgs#kwByteMap}.
+ */
+public final class KWByteMap extends KWPrimitiveMap {
+    private final byte[] values;
+
+    KWByteMap(int expected) {
+        super(expected);
+        values = new byte[keys.length];
+    }
+
+    /**
+     * @param keys Keyword names.
+     * @param values Values of keywords, such that 'values[i]' corresponds to 'keys[i]'.
+     * @return Map of each key to its value. Later keys overwrite earlier ones.
+     * @throws IllegalArgumentException If keys and values differ in length
+     */
+    public static KWByteMap of(String[] keys, byte[] values) {
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("Got " + keys.length + " keys but " + values.length + " values.");
+        }
+        KWByteMap kwmap = new KWByteMap(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            kwmap.put(keys[i], values[i]);
+        }
+        return kwmap;
+    } // end of()
+
+    // Copy of this map with room for 'extra' more keywords.
+    KWByteMap copy(int extra) {
+        KWByteMap kwmap = new KWByteMap(size() + extra);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                kwmap.put(keys[i], values[i]);
+            }
+        }
+        return kwmap;
+    } // end copy()
+
+    void put(String key, byte value) {
+        values[insert(key)] = value;
+    } // end put()
+
+    @Override
+    boolean putBoxed(String key, Object value) {
+        if (!(value instanceof Byte)) {
+            return false;
+        }
+        put(key, (Byte) value);
+        return true;
+    } // end putBoxed()
+
+    /**
+     * @param key Keyword name.
+     * @return Value of keyword.
+     * @throws java.util.NoSuchElementException If map has no value for keyword
+     */
+    public byte get(String key) {
+        return values[indexOf(key)];
+    } // end get()
+
+    /**
+     * @param key Keyword name.
+     * @param defaultValue Value returned if map has no value for keyword.
+     * @return Value of keyword, or defaultValue.
+     */
+    public byte getOrDefault(String key, byte defaultValue) {
+        int i = find(key);
+        return i < 0 ? defaultValue : values[i];
+    } // end getOrDefault()
+
+    @Override
+    void appendValue(StringBuilder sb, int i) {
+        sb.append(values[i]);
+    } // end appendValue()
+} // end class KWByteMap
@@ -0,0 +1,252 @@
+package kwargs;
+
+import java.util.Map;
+
+/**
+ * Inline cache behind {@link KWArgs#kw(Object[], Object...)}.
+ * Keywords are almost always string literals, so a call site passes the same interned keys in the same positions
+ * on every call. The first call records that key layout, and later calls only compare keys by reference ('==')
+ * before copying values into a {@link KWShapedMap} by position, without String checks or hashing.
+ * A call site is identified by its layout alone, so no changes are needed where kw() is called.
+ * The maps it returns are as mutable as the HashMap kw() returned before, see {@link KWShapedMap}.
+ * <p>
+ * There is no state per call site: layouts live in one global table of 64 entries, indexed by the first key
+ * and the argument counts, so unrelated call sites with the same first key and arity
+ * (ex. kw("name", x, "age", y) and kw("name", x, "id", y)) share an entry.
+ * Each entry holds up to {@link #WAYS} layouts, so a few such sites are all cached side by side.
+ * Only when more layouts than that keep replacing each other in one entry does it give up ('megamorphic'):
+ * its calls take the general path, and after {@link #RETRY_AFTER} of them the entry starts over empty.
+ */
+final class KWCallSiteCache {
+    // Number of entries. Power of 2.
+    private static final int SIZE = 64;
+    // Layouts per entry.
+    static final int WAYS = 4;
+    // Layouts an entry may evict before it is no longer cached.
+    static final int MAX_EVICTIONS = 8;
+    // General-path calls of a megamorphic entry before it is emptied and caches again.
+    static final int RETRY_AFTER = 4096;
+
+    // Racy on purpose: entries only change by replacement, except the bypass count of a megamorphic one,
+    // so any thread sees either a complete entry or an older one.
+    private static final Entry[] entries = new Entry[SIZE];
+
+    private KWCallSiteCache() {
+    }
+
+    // Empties every entry. For tests, which share the table with every other kw() call.
+    static void clear() {
+        for (int i = 0; i < SIZE; i++) {
+            entries[i] = null;
+        }
+    } // end clear()
+
+    /**
+     * @param kwargs Keyword arguments, already known to be in key, value format.
+     * @param defaultargs Default arguments, already known to be in key, value format.
+     * @return Map of kwargs over defaultargs, or null if the general path must be taken.
+     */
+    static Map<String, Object> kw(Object[] kwargs, Object[] defaultargs) {
+        Layout layout = layout(kwargs, defaultargs);
+        return layout == null ? null : layout.fill(kwargs, defaultargs);
+    } // end kw()
+
+    /**
+     * @param kwargs Keyword arguments, already known to be in key, value format.
+     * @param defaultargs Default arguments, already known to be in key, value format.
+     * @return Layout of the call, or null if the general path must be taken.
+     */
+    static Layout layout(Object[] kwargs, Object[] defaultargs) {
+        Object first = kwargs.length > 0 ? kwargs[0] : defaultargs.length > 0 ? defaultargs[0] : null;
+        if (!(first instanceof String)) {
+            return null;
+        }
+        int h = first.hashCode() * 31 + kwargs.length * 7 + defaultargs.length;
+        int slot = (h ^ (h >>> 16)) & (SIZE - 1);
+
+        Entry entry = entries[slot];
+        if (entry != null) {
+            if (entry.megamorphic) {
+                // Benign race: threads may lose increments, or empty the entry twice, which only delays
+                // or repeats the retry. The count is approximate on purpose, to keep this path free of atomics.
+                if (++entry.bypassed >= RETRY_AFTER) {
+                    entries[slot] = null;
+                }
+                return null;
+            }
+            Layout layout = entry.find(kwargs, defaultargs);
+            if (layout != null) {
+                return layout;
+            }
+        }
+
+        // Miss: add this layout to the entry, evicting its oldest one if full.
+        Layout next = Layout.of(kwargs, defaultargs);
+        if (next == null) {
+            return null;
+        }
+        entries[slot] = entry == null ? new Entry(new Layout[]{next}, 0) : entry.with(next);
+        return next;
+    } // end layout()
+
+    /**
+     * Layouts cached under one index, newest first, and how many were evicted to make room.
+     */
+    private static final class Entry {
+        private final Layout[] layouts;
+        private final int evictions;
+        private final boolean megamorphic;
+        // General-path calls since megamorphic. Racy: a lost update only delays the retry.
+        private int bypassed;
+
+        Entry(Layout[] layouts, int evictions) {
+            this.layouts = layouts;
+            this.evictions = evictions;
+            this.megamorphic = evictions > MAX_EVICTIONS;
+        }
+
+        // Layout matching the call, by reference first, then by value for non-interned keys. Null if none.
+        Layout find(Object[] kwargs, Object[] defaultargs) {
+            for (Layout layout : layouts) {
+                if (layout.sameKeys(kwargs, defaultargs)) {
+                    return layout;
+                }
+            }
+            for (Layout layout : layouts) {
+                if (layout.equalKeys(kwargs, defaultargs)) {
+                    return layout;
+                }
+            }
+            return null;
+        } // end find()
+
+        // This entry with layout added in front.
+        Entry with(Layout layout) {
+            int kept = Math.min(layouts.length, WAYS - 1);
+            Layout[] next = new Layout[kept + 1];
+            next[0] = layout;
+            System.arraycopy(layouts, 0, next, 1, kept);
+            return new Entry(next, evictions + (layouts.length - kept));
+        } // end with()
+    } // end class Entry
+
+    /**
+     * Keys of one call, by position, and the resulting shape of the keyword map.
+     */
+    static final class Layout {
+        private final String[] kwKeys;
+        private final String[] defaultKeys;
+        // Distinct keywords of the map, and where each one's value comes from:
+        // a position in kwargs, or kwargs.length + a position in defaultargs.
+        final String[] names;
+        private final int[] sources;
+        // Keyword to index in 'names'. Null for small layouts, which are scanned instead.
+        final KWIntMap index;
+
+        private Layout(String[] kwKeys, String[] defaultKeys, String[] names, int[] sources) {
+            this.kwKeys = kwKeys;
+            this.defaultKeys = defaultKeys;
+            this.names = names;
+            this.sources = sources;
+            this.index = names.length > KWView.INDEX_THRESHOLD ? KWIntMap.indexOf(names) : null;
+        }
+
+        // Builds the layout of a call, or returns null if a key is not a String.
+        static Layout of(Object[] kwargs, Object[] defaultargs) {
+            String[] kwKeys = new String[kwargs.length / 2];
+            String[] defaultKeys = new String[defaultargs.length / 2];
+            KWIntMap positions = new KWIntMap(kwKeys.length + defaultKeys.length);
+            // Defaults go in first, so keyword arguments overwrite them.
+            for (int i = 0; i < defaultargs.length; i = i + 2) {
+                if (!(defaultargs[i] instanceof String)) {
+                    return null;
+                }
+                defaultKeys[i / 2] = (String) defaultargs[i];
+                positions.put(defaultKeys[i / 2], kwargs.length + i + 1);
+            }
+            for (int i = 0; i < kwargs.length; i = i + 2) {
+                if (!(kwargs[i] instanceof String)) {
+                    return null;
+                }
+                kwKeys[i / 2] = (String) kwargs[i];
+                positions.put(kwKeys[i / 2], i + 1);
+            }
+
+            String[] names = new String[positions.size()];
+            int[] sources = new int[positions.size()];
+            int n = 0;
+            for (int i = 0; i < positions.keys.length; i++) {
+                if (positions.keys[i] != null) {
+                    names[n] = positions.keys[i];
+                    sources[n] = positions.get(names[n]);
+                    n++;
+                }
+            }
+            return new Layout(kwKeys, defaultKeys, names, sources);
+        } // end of()
+
+        // If a call has exactly this layout, with the very same key objects.
+        boolean sameKeys(Object[] kwargs, Object[] defaultargs) {
+            return sameLength(kwargs, defaultargs) && sameKeys(kwKeys, kwargs) && sameKeys(defaultKeys, defaultargs);
+        } // end sameKeys()
+
+        // If a call has exactly this layout, with keys equal but maybe not interned.
+        boolean equalKeys(Object[] kwargs, Object[] defaultargs) {
+            return sameLength(kwargs, defaultargs) && equalKeys(kwKeys, kwargs) && equalKeys(defaultKeys, defaultargs);
+        } // end equalKeys()
+
+        private boolean sameLength(Object[] kwargs, Object[] defaultargs) {
+            return kwargs.length == kwKeys.length * 2 && defaultargs.length == defaultKeys.length * 2;
+        } // end sameLength()
+
+        private static boolean sameKeys(String[] keys, Object[] args) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != args[i * 2]) {
+                    return false;
+                }
+            }
+            return true;
+        } // end sameKeys()
+
+        private static boolean equalKeys(String[] keys, Object[] args) {
+            for (int i = 0; i < keys.length; i++) {
+                if (!keys[i].equals(args[i * 2])) {
+                    return false;
+                }
+            }
+            return true;
+        } // end equalKeys()
+
+        // Copies the values of a call that matches this layout into a new map.
+        Map<String, Object> fill(Object[] kwargs, Object[] defaultargs) {
+            return new KWShapedMap(this, fill(kwargs, defaultargs, new Object[sources.length]));
+        } // end fill()
+
+        // Copies the values of a call that matches this layout into values, by index in 'names'.
+        Object[] fill(Object[] kwargs, Object[] defaultargs, Object[] values) {
+            for (int i = 0; i < sources.length; i++) {
+                int source = sources[i];
+                values[i] = source < kwargs.length ? kwargs[source] : defaultargs[source - kwargs.length];
+            }
+            return values;
+        } // end fill()
+
+        // Index of keyword in 'names', or -1.
+        int slotOf(Object key) {
+            if (index != null) {
+                return key instanceof String ? index.getOrDefault((String) key, -1) : -1;
+            }
+            for (int i = 0; i < names.length; i++) {
+                if (names[i] == key) {
+                    return i;
+                }
+            }
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        } // end slotOf()
+    } // end class Layout
+} // end class KWCallSiteCache
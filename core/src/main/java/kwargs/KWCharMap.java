@@ -0,0 +1,78 @@
+package kwargs;
+
+/**
+ * Read-only map of String to char, without boxing. Returned by {@link KWArgs#kwCharMap}.
+ */
+public final class KWCharMap extends KWPrimitiveMap {
+    private final char[] values;
+
+    KWCharMap(int expected) {
+        super(expected);
+        values = new char[keys.length];
+    }
+
+    /**
+     * @param keys Keyword names.
+     * @param values Values of keywords, such that 'values[i]' corresponds to 'keys[i]'.
+     * @return Map of each key to its value. Later keys overwrite earlier ones.
+     * @throws IllegalArgumentException If keys and values differ in length
+     */
+    public static KWCharMap of(String[] keys, char[] values) {
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("Got " + keys.length + " keys but " + values.length + " values.");
+        }
+        KWCharMap kwmap = new KWCharMap(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            kwmap.put(keys[i], values[i]);
+        }
+        return kwmap;
+    } // end of()
+
+    // Copy of this map with room for 'extra' more keywords.
+    KWCharMap copy(int extra) {
+        KWCharMap kwmap = new KWCharMap(size() + extra);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                kwmap.put(keys[i], values[i]);
+            }
+        }
+        return kwmap;
+    } // end copy()
+
+    void put(String key, char value) {
+        values[insert(key)] = value;
+    } // end put()
+
+    @Override
+    boolean putBoxed(String key, Object value) {
+        if (!(value instanceof Character)) {
+            return false;
+        }
+        put(key, (Character) value);
+        return true;
+    } // end putBoxed()
+
+    /**
+     * @param key Keyword name.
+     * @return Value of keyword.
+     * @throws java.util.NoSuchElementException If map has no value for keyword
+     */
+    public char get(String key) {
+        return values[indexOf(key)];
+    } // end get()
+
+    /**
+     * @param key Keyword name.
+     * @param defaultValue Value returned if map has no value for keyword.
+     * @return Value of keyword, or defaultValue.
+     */
+    public char getOrDefault(String key, char defaultValue) {
+        int i = find(key);
+        return i < 0 ? defaultValue : values[i];
+    } // end getOrDefault()
+
+    @Override
+    void appendValue(StringBuilder sb, int i) {
+        sb.append(values[i]);
+    } // end appendValue()
+} // end class KWCharMap
@@ -0,0 +1,91 @@
+package kwargs;
+
+/**
+ * Checks of kwargs and defaultargs shared by the kw* implementations, in the order the kw* methods have always
+ * made them: the format of kwargs, then of defaultargs, then each pair of defaultargs and kwargs, value before key.
+ * The throwing checks raise the {@link KWError} exception of the first failure, while {@link #firstInvalid} only
+ * finds it, for {@link KWResult}.
+ */
+final class KWCheck {
+    private KWCheck() {
+    }
+
+    /**
+     * @param converter Converter every value must pass, or null for any type.
+     * @throws KWFormatException If arguments are not in key, value format
+     * @throws KWTypeException If key in key-value pair is not String, or value is not of type
+     */
+    static void check(KWConverter converter, Object[] kwargs, Object[] defaultargs) {
+        checkFormat(kwargs, defaultargs);
+        checkPairs(converter, kwargs, defaultargs);
+    } // end check()
+
+    /**
+     * @throws KWFormatException If arguments are not in key, value format
+     */
+    static void checkFormat(Object[] kwargs, Object[] defaultargs) {
+        // Make sure the kwargs and defaultargs alternate between key,value,key,value,etc.
+        if (kwargs.length % 2 != 0) {
+            throw KWError.KWARGS_FORMAT.exception(kwargs.length - 1, null, null);
+        }
+        if (defaultargs.length % 2 != 0) {
+            throw KWError.DEFAULTS_FORMAT.exception(defaultargs.length - 1, null, null);
+        }
+    } // end checkFormat()
+
+    /**
+     * @param converter Converter every value must pass, or null for any type.
+     * @throws KWTypeException If key in key-value pair is not String, or value is not of type
+     */
+    static void checkPairs(KWConverter converter, Object[] kwargs, Object[] defaultargs) {
+        int index = firstInvalid(converter, defaultargs);
+        if (index >= 0) {
+            throw error(index, true).exception(index, defaultargs[index], expected(converter, index));
+        }
+        index = firstInvalid(converter, kwargs);
+        if (index >= 0) {
+            throw error(index, false).exception(index, kwargs[index], expected(converter, index));
+        }
+    } // end checkPairs()
+
+    /**
+     * @param converter Converter every value must pass, or null for any type.
+     * @param pairs kwargs or defaultargs, already known to be in key, value format.
+     * @return Index of the first value the converter rejects, or key not a String, checking each value before its key. -1 if none.
+     */
+    static int firstInvalid(KWConverter converter, Object[] pairs) {
+        for (int i = 0; i < pairs.length; i = i + 2) {
+            if (converter != null && converter.convert(pairs[i + 1]) == null) {
+                return i + 1;
+            }
+            if (!(pairs[i] instanceof String)) {
+                return i;
+            }
+        }
+        return -1;
+    } // end firstInvalid()
+
+    /**
+     * @return Error of the item at an index found by {@link #firstInvalid}, in defaultargs or in kwargs.
+     */
+    static KWError error(int index, boolean inDefaults) {
+        if (index % 2 == 0) {
+            return inDefaults ? KWError.DEFAULT_KEY_TYPE : KWError.KEY_TYPE;
+        }
+        return inDefaults ? KWError.DEFAULT_VALUE_TYPE : KWError.VALUE_TYPE;
+    } // end error()
+
+    /**
+     * @return Type the item at an index found by {@link #firstInvalid} should have had.
+     */
+    static Class<?> expected(KWConverter converter, int index) {
+        return index % 2 == 0 ? String.class : converter.type();
+    } // end expected()
+
+    /**
+     * @return value as stored in the Map, converted if there is a converter. Only for values it accepts.
+     */
+    static Object convert(KWConverter converter, Object value) {
+        return converter == null ? value : converter.convert(value);
+    } // end convert()
+} // end class KWCheck
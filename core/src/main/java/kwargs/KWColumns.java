@@ -0,0 +1,160 @@
+package kwargs;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+
+/**
+ * Columnar result of {@link KWBatch#parse}: one array per keyword of a {@link KWSchema}, one element per record.
+ * Keywords declared with a primitive type (ex. int.class) get a primitive array (int[]), so values are never boxed.
+ * Other keywords get an Object[].
+ */
+public final class KWColumns {
+    // Kind of each column, by declared type.
+    private static final byte INT = 0, LONG = 1, DOUBLE = 2, FLOAT = 3, SHORT = 4, BYTE = 5, BOOLEAN = 6, CHAR = 7, OBJECT = 8;
+
+    private final KWSchema schema;
+    private int rows;
+    private final byte[] kinds;
+    private final Object[] columns;
+
+    KWColumns(KWSchema schema, int rows) {
+        this.schema = schema;
+        this.rows = rows;
+        this.kinds = new byte[schema.size()];
+        this.columns = new Object[schema.size()];
+        for (int slot = 0; slot < schema.size(); slot++) {
+            Class<?> type = schema.type(slot);
+            if (type == int.class) {
+                kinds[slot] = INT;
+                columns[slot] = new int[rows];
+            } else if (type == long.class) {
+                kinds[slot] = LONG;
+                columns[slot] = new long[rows];
+            } else if (type == double.class) {
+                kinds[slot] = DOUBLE;
+                columns[slot] = new double[rows];
+            } else if (type == float.class) {
+                kinds[slot] = FLOAT;
+                columns[slot] = new float[rows];
+            } else if (type == short.class) {
+                kinds[slot] = SHORT;
+                columns[slot] = new short[rows];
+            } else if (type == byte.class) {
+                kinds[slot] = BYTE;
+                columns[slot] = new byte[rows];
+            } else if (type == boolean.class) {
+                kinds[slot] = BOOLEAN;
+                columns[slot] = new boolean[rows];
+            } else if (type == char.class) {
+                kinds[slot] = CHAR;
+                columns[slot] = new char[rows];
+            } else {
+                kinds[slot] = OBJECT;
+                columns[slot] = new Object[rows];
+            }
+        }
+    }
+
+    /**
+     * @return Number of records.
+     */
+    public int rows() {
+        return rows;
+    } // end rows()
+
+    /**
+     * @return Schema of the columns. Slots of the schema are column indices.
+     */
+    public KWSchema schema() {
+        return schema;
+    } // end schema()
+
+    public int[] ints(int slot) {
+        return (int[]) column(slot, INT);
+    } // end ints()
+
+    public long[] longs(int slot) {
+        return (long[]) column(slot, LONG);
+    } // end longs()
+
+    public double[] doubles(int slot) {
+        return (double[]) column(slot, DOUBLE);
+    } // end doubles()
+
+    public float[] floats(int slot) {
+        return (float[]) column(slot, FLOAT);
+    } // end floats()
+
+    public short[] shorts(int slot) {
+        return (short[]) column(slot, SHORT);
+    } // end shorts()
+
+    public byte[] bytes(int slot) {
+        return (byte[]) column(slot, BYTE);
+    } // end bytes()
+
+    public boolean[] booleans(int slot) {
+        return (boolean[]) column(slot, BOOLEAN);
+    } // end booleans()
+
+    public char[] chars(int slot) {
+        return (char[]) column(slot, CHAR);
+    } // end chars()
+
+    /**
+     * @param slot Slot of a keyword not declared with a primitive type.
+     * @return Column of keyword.
+     */
+    public Object[] objects(int slot) {
+        return (Object[]) column(slot, OBJECT);
+    } // end objects()
+
+    private Object column(int slot, byte kind) {
+        if (kinds[slot] != kind) {
+            throw new IllegalArgumentException("Column of keyword '" + schema.name(slot) + "' is of type " + schema.type(slot).getSimpleName() + ".");
+        }
+        return columns[slot];
+    } // end column()
+
+    // Grows or shrinks every column to 'rows' rows, keeping the rows both sizes share.
+    void resize(int rows) {
+        for (int slot = 0; slot < columns.length; slot++) {
+            Object column = Array.newInstance(columns[slot].getClass().getComponentType(), rows);
+            System.arraycopy(columns[slot], 0, column, 0, Math.min(this.rows, rows));
+            columns[slot] = column;
+        }
+        this.rows = rows;
+    } // end resize()
+
+    // Sets rows [from, to) of a column to a value, already known to be of the column's type.
+    void fill(int slot, int from, int to, Object value) {
+        Object column = columns[slot];
+        switch (kinds[slot]) {
+            case INT: Arrays.fill((int[]) column, from, to, (Integer) value); break;
+            case LONG: Arrays.fill((long[]) column, from, to, (Long) value); break;
+            case DOUBLE: Arrays.fill((double[]) column, from, to, (Double) value); break;
+            case FLOAT: Arrays.fill((float[]) column, from, to, (Float) value); break;
+            case SHORT: Arrays.fill((short[]) column, from, to, (Short) value); break;
+            case BYTE: Arrays.fill((byte[]) column, from, to, (Byte) value); break;
+            case BOOLEAN: Arrays.fill((boolean[]) column, from, to, (Boolean) value); break;
+            case CHAR: Arrays.fill((char[]) column, from, to, (Character) value); break;
+            default: Arrays.fill((Object[]) column, from, to, value);
+        }
+    } // end fill()
+
+    // Sets one row of a column to a value, already known to be of the column's type.
+    void set(int slot, int row, Object value) {
+        Object column = columns[slot];
+        switch (kinds[slot]) {
+            case INT: ((int[]) column)[row] = (Integer) value; break;
+            case LONG: ((long[]) column)[row] = (Long) value; break;
+            case DOUBLE: ((double[]) column)[row] = (Double) value; break;
+            case FLOAT: ((float[]) column)[row] = (Float) value; break;
+            case SHORT: ((short[]) column)[row] = (Short) value; break;
+            case BYTE: ((byte[]) column)[row] = (Byte) value; break;
+            case BOOLEAN: ((boolean[]) column)[row] = (Boolean) value; break;
+            case CHAR: ((char[]) column)[row] = (Character) value; break;
+            default: ((Object[]) column)[row] = value;
+        }
+    } // end set()
+} // end class KWColumns
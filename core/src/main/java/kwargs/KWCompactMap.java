@@ -0,0 +1,185 @@
+package kwargs;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable Map returned by {@link KWArgs#kwCompact}: one Object[] of interleaved keys and values, and nothing else.
+ * Up to {@link #LINEAR_SCAN_LIMIT} pairs, the array holds exactly the pairs and is scanned.
+ * Above, it is an open-addressing table at most 3/4 full, probed linearly.
+ * All fields are final, so a map can be handed to other threads without copying or locking.
+ * Unlike Map.of(), null values are allowed, same as kw().
+ */
+final class KWCompactMap<V> extends AbstractMap<String, V> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    // Most calls have few pairs, and comparing a few keys beats hashing.
+    static final int LINEAR_SCAN_LIMIT = 8;
+
+    // Keys at even indices, values at the following odd index. Null key marks an empty slot of a hashed table.
+    private final Object[] table;
+    private final int size;
+    private final boolean hashed;
+
+    private KWCompactMap(Object[] table, int size, boolean hashed) {
+        this.table = table;
+        this.size = size;
+        this.hashed = hashed;
+    }
+
+    /**
+     * Same checks and order as the kw* methods: later keys overwrite earlier ones, and kwargs overwrite defaultargs.
+     *
+     * @param converter Converter every value must pass, and is stored as converted, or null for any type.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If key in key-value pair is not String, or value is not of type
+     */
+    static <V> KWCompactMap<V> of(KWConverter converter, Object[] kwargs, Object[] defaultargs) {
+        KWCheck.check(converter, kwargs, defaultargs);
+
+        int pairs = (kwargs.length + defaultargs.length) / 2;
+        if (pairs <= LINEAR_SCAN_LIMIT) {
+            Object[] table = new Object[pairs * 2];
+            int size = putAll(table, 0, defaultargs, converter);
+            size = putAll(table, size, kwargs, converter);
+            return new KWCompactMap<>(size == pairs ? table : Arrays.copyOf(table, size * 2), size, false);
+        }
+        int capacity = Integer.highestOneBit((pairs * 4 + 2) / 3 - 1) << 1;
+        Object[] table = new Object[capacity * 2];
+        int size = insertAll(table, 0, defaultargs, converter);
+        size = insertAll(table, size, kwargs, converter);
+        return new KWCompactMap<>(table, size, true);
+    } // end of()
+
+    // Adds pairs to the packed table holding 'size' pairs, replacing equal keys. Returns the new size.
+    private static int putAll(Object[] table, int size, Object[] kwargs, KWConverter converter) {
+        for (int i = 0; i < kwargs.length; i = i + 2) {
+            int at = indexOfPacked(table, size, kwargs[i]);
+            if (at < 0) {
+                at = size++ * 2;
+                table[at] = kwargs[i];
+            }
+            table[at + 1] = KWCheck.convert(converter, kwargs[i + 1]);
+        }
+        return size;
+    } // end putAll()
+
+    // Adds pairs to the hashed table holding 'size' pairs, replacing equal keys. Returns the new size.
+    private static int insertAll(Object[] table, int size, Object[] kwargs, KWConverter converter) {
+        for (int i = 0; i < kwargs.length; i = i + 2) {
+            int at = probe(table, kwargs[i]);
+            if (table[at] == null) {
+                table[at] = kwargs[i];
+                size++;
+            }
+            table[at + 1] = KWCheck.convert(converter, kwargs[i + 1]);
+        }
+        return size;
+    } // end insertAll()
+
+    private static int indexOfPacked(Object[] table, int size, Object key) {
+        for (int at = 0; at < size * 2; at = at + 2) {
+            if (table[at] == key || table[at].equals(key)) {
+                return at;
+            }
+        }
+        return -1;
+    } // end indexOfPacked()
+
+    // Index of key in the hashed table, or of the empty slot where it would go.
+    private static int probe(Object[] table, Object key) {
+        int mask = (table.length >> 1) - 1;
+        int h = key.hashCode();
+        int slot = (h ^ (h >>> 16)) & mask;
+        while (true) {
+            Object k = table[slot * 2];
+            if (k == null || k == key || k.equals(key)) {
+                return slot * 2;
+            }
+            slot = (slot + 1) & mask;
+        }
+    } // end probe()
+
+    // Index of key in table, or -1.
+    private int indexOf(Object key) {
+        if (!(key instanceof String)) {
+            return -1;
+        }
+        if (!hashed) {
+            return indexOfPacked(table, size, key);
+        }
+        int at = probe(table, key);
+        return table[at] == null ? -1 : at;
+    } // end indexOf()
+
+    @Override
+    public int size() {
+        return size;
+    } // end size()
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(Object key) {
+        int at = indexOf(key);
+        return at < 0 ? null : (V) table[at + 1];
+    } // end get()
+
+    // One lookup, where AbstractMap's would take two.
+    @SuppressWarnings("unchecked")
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        int at = indexOf(key);
+        return at < 0 ? defaultValue : (V) table[at + 1];
+    } // end getOrDefault()
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    } // end containsKey()
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+        return new AbstractSet<Entry<String, V>>() {
+            @Override
+            public Iterator<Entry<String, V>> iterator() {
+                return new Iterator<Entry<String, V>>() {
+                    private int at = skipEmpty(0);
+
+                    @Override
+                    public boolean hasNext() {
+                        return at < table.length;
+                    }
+
+                    @SuppressWarnings("unchecked")
+                    @Override
+                    public Entry<String, V> next() {
+                        if (at >= table.length) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<String, V> entry = new SimpleImmutableEntry<>((String) table[at], (V) table[at + 1]);
+                        at = skipEmpty(at + 2);
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    } // end entrySet()
+
+    private int skipEmpty(int at) {
+        while (at < table.length && table[at] == null) {
+            at = at + 2;
+        }
+        return at;
+    } // end skipEmpty()
+} // end class KWCompactMap
@@ -0,0 +1,113 @@
+package kwargs;
+
+import java.lang.invoke.MethodType;
+
+/**
+ * Checks, and optionally widens, values for the typed kw* methods. Every method taking a Class widens, the
+ * kwInteger() etc. family does not. One converter per class and mode, cached in a
+ * {@link ClassValue}. A single final class rather than one subclass per type, so the loop calling convert()
+ * stays monomorphic however many types a program uses. A record, because the JIT trusts the final fields of records:
+ * a converter known at compile time checks values against a constant Class, as type.isInstance() with a Class literal would.
+ * Widening follows Java's widening primitive conversions (ex. Integer to Long, Character to Integer, Long to Double).
+ *
+ * @param type Type of values, boxed if primitive.
+ * @param rank Rank of type values widen to, or NONE if they do not.
+ */
+record KWConverter(Class<?> type, byte rank) {
+    // Rank of each numeric type: a value widens to any type of higher rank. Character never widens to Short.
+    private static final byte NONE = 0, BYTE = 1, SHORT = 2, CHAR = 2, INT = 3, LONG = 4, FLOAT = 5, DOUBLE = 6;
+
+    private static final ClassValue<KWConverter> EXACT = new ClassValue<KWConverter>() {
+        @Override
+        protected KWConverter computeValue(Class<?> type) {
+            return of(type, false);
+        }
+    };
+    private static final ClassValue<KWConverter> WIDENING = new ClassValue<KWConverter>() {
+        @Override
+        protected KWConverter computeValue(Class<?> type) {
+            return of(type, true);
+        }
+    };
+    // Widening converters of the usual types, found by comparing the Class passed, which folds away once the call is
+    // inlined with a Class literal, leaving a constant converter. A ClassValue lookup does not, and costs more than the rest of a short call.
+    private static final KWConverter WIDENING_INTEGER = WIDENING.get(Integer.class), WIDENING_LONG = WIDENING.get(Long.class),
+            WIDENING_DOUBLE = WIDENING.get(Double.class), WIDENING_STRING = WIDENING.get(String.class);
+
+    private static KWConverter of(Class<?> type, boolean widening) {
+        Class<?> boxed = MethodType.methodType(type).wrap().returnType();
+        return new KWConverter(boxed, widening && boxed != Character.class ? rankOf(boxed) : NONE);
+    } // end of()
+
+    /**
+     * @param type Type of values, ex. Integer.class. A primitive type stands for its wrapper.
+     * @return Converter accepting only values of type.
+     */
+    static KWConverter exact(Class<?> type) {
+        return EXACT.get(type);
+    } // end exact()
+
+    /**
+     * @param type Type of values, ex. Long.class, or null for any type. A primitive type stands for its wrapper.
+     * @return Converter accepting values of type, and numbers that widen to type. Null for any type.
+     */
+    static KWConverter widening(Class<?> type) {
+        if (type == null) {
+            return null;
+        } else if (type == Integer.class) {
+            return WIDENING_INTEGER;
+        } else if (type == Long.class) {
+            return WIDENING_LONG;
+        } else if (type == Double.class) {
+            return WIDENING_DOUBLE;
+        } else if (type == String.class) {
+            return WIDENING_STRING;
+        }
+        return WIDENING.get(type);
+    } // end widening()
+
+    /**
+     * @return value, widened if needed, or null if value is not of type.
+     */
+    Object convert(Object value) {
+        if (type.isInstance(value)) {
+            return value;
+        }
+        // Only numbers widen: anything else (null too) is rejected here, keeping widen() out of callers that never widen
+        return rank == NONE || !(value instanceof Number || value instanceof Character) ? null : widen(value);
+    } // end convert()
+
+    private Object widen(Object value) {
+        int from = rankOf(value.getClass());
+        if (from == NONE || from >= rank) {
+            return null;
+        }
+        Number number = value instanceof Character ? Integer.valueOf((Character) value) : (Number) value;
+        switch (rank) {
+            case SHORT: return number.shortValue();
+            case INT: return number.intValue();
+            case LONG: return number.longValue();
+            case FLOAT: return number.floatValue();
+            default: return number.doubleValue();
+        }
+    } // end widen()
+
+    private static byte rankOf(Class<?> type) {
+        if (type == Integer.class) {
+            return INT;
+        } else if (type == Long.class) {
+            return LONG;
+        } else if (type == Double.class) {
+            return DOUBLE;
+        } else if (type == Float.class) {
+            return FLOAT;
+        } else if (type == Short.class) {
+            return SHORT;
+        } else if (type == Byte.class) {
+            return BYTE;
+        } else if (type == Character.class) {
+            return CHAR;
+        }
+        return NONE;
+    } // end rankOf()
+} // end class KWConverter
@@ -0,0 +1,135 @@
+package kwargs;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Default arguments, validated once and frozen, to be shared by every call of a method.
+ * <pre>
+ * static final KWDefaults RANGE_DEFAULTS = KWDefaults.of("min", 0, "max", 100);
+ * ...
+ * Map&lt;String, Integer&gt; kwmap = KWArgs.kwInteger(objs, RANGE_DEFAULTS);
+ * </pre>
+ * The kw* overloads that take a KWDefaults read through to it instead of copying it, so defaults cost nothing
+ * per call until a keyword argument overrides one of them.
+ */
+public final class KWDefaults {
+    private static final KWDefaults EMPTY = new KWDefaults(new String[0], new Object[0], new int[0]);
+
+    final String[] names;
+    final Object[] values;
+    // Index of each slot's value in the defaultargs passed to of(), for error messages.
+    final int[] positions;
+    // Keyword to slot in 'names' and 'values'.
+    private final KWIntMap index;
+    // Class shared by every value, or null if values are of different classes (or null).
+    private final Class<?> valueType;
+
+    private KWDefaults(String[] names, Object[] values, int[] positions) {
+        this.names = names;
+        this.values = values;
+        this.positions = positions;
+        this.index = KWIntMap.indexOf(names);
+
+        Class<?> type = values.length > 0 && values[0] != null ? values[0].getClass() : null;
+        for (Object value : values) {
+            if (value == null || value.getClass() != type) {
+                type = null;
+                break;
+            }
+        }
+        this.valueType = type;
+    }
+
+    /**
+     * @param defaultargs Default values of kwargs, alternating between String (keyword) and Object (value).
+     * @return Frozen defaults. Later keys overwrite earlier ones, same as kw().
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    public static KWDefaults of(Object... defaultargs) {
+        // Make sure the defaultargs alternate between key,value,key,value,etc.
+        if (defaultargs.length % 2 != 0) {
+            throw KWError.DEFAULTS_FORMAT.exception(defaultargs.length - 1, null, null);
+        }
+        if (defaultargs.length == 0) {
+            return EMPTY;
+        }
+
+        KWIntMap slots = new KWIntMap(defaultargs.length / 2);
+        String[] names = new String[defaultargs.length / 2];
+        Object[] values = new Object[defaultargs.length / 2];
+        int[] positions = new int[defaultargs.length / 2];
+        int n = 0;
+        for (int i = 0; i < defaultargs.length; i = i + 2) {
+            if (!(defaultargs[i] instanceof String)) {
+                throw KWError.DEFAULT_KEY_TYPE.exception(i, defaultargs[i], String.class);
+            }
+            String name = (String) defaultargs[i];
+            int slot = slots.getOrDefault(name, -1);
+            if (slot < 0) {
+                slot = n++;
+                slots.put(name, slot);
+                names[slot] = name;
+            }
+            values[slot] = defaultargs[i + 1];
+            positions[slot] = i + 1;
+        }
+        if (n < names.length) {
+            names = Arrays.copyOf(names, n);
+            values = Arrays.copyOf(values, n);
+            positions = Arrays.copyOf(positions, n);
+        }
+        return new KWDefaults(names, values, positions);
+    } // end of()
+
+    /**
+     * @return Number of default arguments.
+     */
+    public int size() {
+        return names.length;
+    } // end size()
+
+    /**
+     * @param key Keyword name.
+     * @return Default value of keyword, or null if it has none.
+     */
+    public Object get(String key) {
+        int slot = slotOf(key);
+        return slot < 0 ? null : values[slot];
+    } // end get()
+
+    // Slot of keyword, or -1.
+    int slotOf(Object key) {
+        return key instanceof String ? index.getOrDefault((String) key, -1) : -1;
+    } // end slotOf()
+
+    /**
+     * Checks that every default is of the given type, with the same message the kw* methods use.
+     * Free when all defaults share one class, which is known from construction.
+     *
+     * @throws IllegalArgumentException If a default value is not of type
+     */
+    void checkType(Class<?> type) {
+        if (type == null || values.length == 0 || valueType == type) {
+            return;
+        }
+        for (int slot = 0; slot < values.length; slot++) {
+            if (!type.isInstance(values[slot])) {
+                throw KWError.DEFAULT_VALUE_TYPE.exception(positions[slot], values[slot], type);
+            }
+        }
+    } // end checkType()
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(names[i]).append('=').append(values[i]);
+        }
+        return sb.append('}').toString();
+    } // end toString()
+} // end class KWDefaults
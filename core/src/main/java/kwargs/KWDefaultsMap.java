@@ -0,0 +1,220 @@
+package kwargs;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Map of keyword arguments over frozen {@link KWDefaults}, returned by the kw* overloads that take them.
+ * Values of the defaults are shared until a keyword overrides one, at which point they are copied once
+ * (copy-on-write). Keywords that have no default go in a separate HashMap, created only if there are any.
+ * Fully mutable, like the HashMap the other kw* overloads return.
+ */
+final class KWDefaultsMap<V> extends AbstractMap<String, V> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    // Marks a default that was removed from this map.
+    private static final Object REMOVED = new Object();
+
+    private final KWDefaults defaults;
+    // Value of each default slot. Same array as defaults.values until the first override.
+    private Object[] values;
+    private int removed;
+    // Keywords without a default. Null until there is one.
+    private HashMap<String, Object> extras;
+
+    /**
+     * @param type Type every value must have, or null for any type.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If key in key-value pair is not String, or value is not of type
+     */
+    KWDefaultsMap(Class<?> type, Object[] kwargs, KWDefaults defaults) {
+        // Make sure the kwargs alternate between key,value,key,value,etc.
+        if (kwargs.length % 2 != 0) {
+            throw KWError.KWARGS_FORMAT.exception(kwargs.length - 1, null, null);
+        }
+        defaults.checkType(type);
+        this.defaults = defaults;
+        this.values = defaults.values;
+
+        // Set keyword arguments over the defaults.
+        for (int i = 0; i < kwargs.length; i = i + 2) {
+            if (type != null && !type.isInstance(kwargs[i+1])) {
+                throw KWError.VALUE_TYPE.exception(i + 1, kwargs[i+1], type);
+            }
+            if (!(kwargs[i] instanceof String)) {
+                throw KWError.KEY_TYPE.exception(i, kwargs[i], String.class);
+            }
+            putValue((String) kwargs[i], kwargs[i + 1]);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(Object key) {
+        int slot = defaults.slotOf(key);
+        if (slot >= 0) {
+            Object value = values[slot];
+            return value == REMOVED ? null : (V) value;
+        }
+        return extras == null ? null : (V) extras.get(key);
+    } // end get()
+
+    @Override
+    public boolean containsKey(Object key) {
+        int slot = defaults.slotOf(key);
+        if (slot >= 0) {
+            return values[slot] != REMOVED;
+        }
+        return extras != null && extras.containsKey(key);
+    } // end containsKey()
+
+    @Override
+    public int size() {
+        return values.length - removed + (extras == null ? 0 : extras.size());
+    } // end size()
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V put(String key, V value) {
+        return (V) putValue(key, value);
+    } // end put()
+
+    private Object putValue(String key, Object value) {
+        int slot = defaults.slotOf(key);
+        if (slot < 0) {
+            if (extras == null) {
+                extras = new HashMap<>();
+            }
+            return extras.put(key, value);
+        }
+        if (values == defaults.values) {
+            values = values.clone();
+        }
+        Object old = values[slot];
+        values[slot] = value;
+        if (old == REMOVED) {
+            removed--;
+            return null;
+        }
+        return old;
+    } // end putValue()
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V remove(Object key) {
+        int slot = defaults.slotOf(key);
+        if (slot < 0) {
+            return extras == null ? null : (V) extras.remove(key);
+        }
+        if (values[slot] == REMOVED) {
+            return null;
+        }
+        if (values == defaults.values) {
+            values = values.clone();
+        }
+        Object old = values[slot];
+        values[slot] = REMOVED;
+        removed++;
+        return (V) old;
+    } // end remove()
+
+    @Override
+    public void clear() {
+        values = new Object[values.length];
+        Arrays.fill(values, REMOVED);
+        removed = values.length;
+        extras = null;
+    } // end clear()
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+        return new AbstractSet<Entry<String, V>>() {
+            @Override
+            public Iterator<Entry<String, V>> iterator() {
+                return new Iterator<Entry<String, V>>() {
+                    // Default slots first, then extras.
+                    private int next = advance(0);
+                    private String last;
+                    private Iterator<String> extraKeys;
+
+                    private int advance(int slot) {
+                        while (slot < values.length && values[slot] == REMOVED) {
+                            slot++;
+                        }
+                        return slot;
+                    }
+
+                    private Iterator<String> extraKeys() {
+                        if (extraKeys == null) {
+                            extraKeys = extras == null ? Collections.emptyIterator() : extras.keySet().iterator();
+                        }
+                        return extraKeys;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < values.length || extraKeys().hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, V> next() {
+                        if (next < values.length) {
+                            last = defaults.names[next];
+                            next = advance(next + 1);
+                        } else if (extraKeys().hasNext()) {
+                            last = extraKeys().next();
+                        } else {
+                            throw new NoSuchElementException();
+                        }
+                        return new KeyEntry(last);
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (last == null) {
+                            throw new IllegalStateException();
+                        }
+                        if (defaults.slotOf(last) >= 0) {
+                            KWDefaultsMap.this.remove(last);
+                        } else {
+                            extraKeys().remove();
+                        }
+                        last = null;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return KWDefaultsMap.this.size();
+            }
+        };
+    } // end entrySet()
+
+    // Entry that writes through to the map, like a HashMap entry writes through to its node.
+    private final class KeyEntry extends SimpleEntry<String, V> {
+        private static final long serialVersionUID = 1L;
+
+        KeyEntry(String key) {
+            super(key, KWDefaultsMap.this.get(key));
+        }
+
+        @Override
+        public V setValue(V value) {
+            super.setValue(value);
+            return KWDefaultsMap.this.put(getKey(), value);
+        }
+    } // end class KeyEntry
+
+    // Serialized as the HashMap kw() used to return, so readers don't depend on this class.
+    private Object writeReplace() {
+        return new HashMap<>(this);
+    } // end writeReplace()
+} // end class KWDefaultsMap
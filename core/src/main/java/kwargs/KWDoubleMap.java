@@ -0,0 +1,83 @@
+package kwargs;
+
+/**
+ * Read-only map of String to double, without boxing. Returned by {@link KWArgs#kwDoubleMap}.
+ */
+public final class KWDoubleMap extends KWPrimitiveMap {
+    private final double[] values;
+
+    KWDoubleMap(int expected) {
+        super(expected);
+        values = new double[keys.length];
+    }
+
+    /**
+     * @param keys Keyword names.
+     * @param values Values of keywords, such that 'values[i]' corresponds to 'keys[i]'.
+     * @return Map of each key to its value. Later keys overwrite earlier ones.
+     * @throws IllegalArgumentException If keys and values differ in length
+     */
+    public static KWDoubleMap of(String[] keys, double[] values) {
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("Got " + keys.length + " keys but " + values.length + " values.");
+        }
+        KWDoubleMap kwmap = new KWDoubleMap(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            kwmap.put(keys[i], values[i]);
+        }
+        return kwmap;
+    } // end of()
+
+    // Copy of this map with room for 'extra' more keywords.
+    KWDoubleMap copy(int extra) {
+        KWDoubleMap kwmap = new KWDoubleMap(size() + extra);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                kwmap.put(keys[i], values[i]);
+            }
+        }
+        return kwmap;
+    } // end copy()
+
+    void put(String key, double value) {
+        values[insert(key)] = value;
+    } // end put()
+
+    @Override
+    boolean putBoxed(String key, Object value) {
+        if (!(value instanceof Double)) {
+            return false;
+        }
+        put(key, (Double) value);
+        return true;
+    } // end putBoxed()
+
+    // Sets the value at a table index found by find().
+    void set(int i, double value) {
+        values[i] = value;
+    } // end set()
+
+    /**
+     * @param key Keyword name.
+     * @return Value of keyword.
+     * @throws java.util.NoSuchElementException If map has no value for keyword
+     */
+    public double get(String key) {
+        return values[indexOf(key)];
+    } // end get()
+
+    /**
+     * @param key Keyword name.
+     * @param defaultValue Value returned if map has no value for keyword.
+     * @return Value of keyword, or defaultValue.
+     */
+    public double getOrDefault(String key, double defaultValue) {
+        int i = find(key);
+        return i < 0 ? defaultValue : values[i];
+    } // end getOrDefault()
+
+    @Override
+    void appendValue(StringBuilder sb, int i) {
+        sb.append(values[i]);
+    } // end appendValue()
+} // end class KWDoubleMap
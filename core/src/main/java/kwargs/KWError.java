@@ -0,0 +1,78 @@
+package kwargs;
+
+/**
+ * What was wrong with the arguments of a kw* call. Carried by the exceptions the kw* methods throw
+ * ({@link KWFormatException}, {@link KWTypeException}) and by a failed {@link KWResult}.
+ */
+public enum KWError {
+    /** kwargs has an odd length. */
+    KWARGS_FORMAT,
+    /** defaultargs has an odd length. */
+    DEFAULTS_FORMAT,
+    /** A key in kwargs is not a String. */
+    KEY_TYPE,
+    /** A key in defaultargs is not a String. */
+    DEFAULT_KEY_TYPE,
+    /** A value in kwargs is not of the Map's value type. */
+    VALUE_TYPE,
+    /** A value in defaultargs is not of the Map's value type. */
+    DEFAULT_VALUE_TYPE,
+    /** A key is not one of the known keywords, of a schema or of parsed text. */
+    UNKNOWN_KEY,
+    /** A keyword without default value is not passed. */
+    MISSING_KEY,
+    /** A key is passed more than once, where each keyword binds one parameter. */
+    DUPLICATE_KEY;
+
+    // Stack traces cost more than the rest of a failed call, so they are only filled in when asked for.
+    static final boolean STACK_TRACES = Boolean.getBoolean("kwargs.stackTraces");
+
+    /**
+     * @param item Offending key or value, or null for a format error.
+     * @param type Type the item should have had, or null for a format error.
+     * @return Description of the error, as used in exception messages.
+     */
+    public String message(Object item, Class<?> type) {
+        switch (this) {
+            case KWARGS_FORMAT: return "KWargs are not in key, value format.";
+            case DEFAULTS_FORMAT: return "Default arguments are not in key, value format.";
+            case KEY_TYPE: return "Key must be of type String, not '" + typeName(item) + "'.";
+            case DEFAULT_KEY_TYPE: return "Key in default arguments must be of type String, not '" + typeName(item) + "'.";
+            case UNKNOWN_KEY: return "Keyword '" + item + "' is not allowed here.";
+            case MISSING_KEY: return "Keyword '" + item + "' is required.";
+            case DUPLICATE_KEY: return "Keyword '" + item + "' passed more than once.";
+            // Worded as kwString() always has, the only kw* method whose value errors end in a period
+            case VALUE_TYPE: return "Value '" + item + "' of type " + typeName(item) + " not allowed in kwargs of type " + type.getSimpleName() + (type == String.class ? "." : "");
+            default: return "Default argument with value '" + item + "' of type " + typeName(item) + " not allowed in kwargs of type " + type.getSimpleName() + (type == String.class ? "." : "");
+        }
+    } // end message()
+
+    /**
+     * @param index Index of the offending item in kwargs (or defaultargs, for DEFAULT_* errors), or kwargs.length for a missing keyword.
+     * @param item Offending key or value, or null for a format error.
+     * @param type Type the item should have had, or null for a format error.
+     * @return Exception to throw: a {@link KWFormatException} for format errors and missing keywords, a {@link KWTypeException} otherwise.
+     */
+    RuntimeException exception(int index, Object item, Class<?> type) {
+        if (this == KWARGS_FORMAT || this == DEFAULTS_FORMAT || this == MISSING_KEY) {
+            return new KWFormatException(this, index, item);
+        }
+        return new KWTypeException(this, index, item, type);
+    } // end exception()
+
+    /**
+     * @return Error carried by an exception thrown by a kw* method, or null if it is some other exception.
+     */
+    static KWError of(Throwable e) {
+        if (e instanceof KWFormatException) {
+            return ((KWFormatException) e).error();
+        } else if (e instanceof KWTypeException) {
+            return ((KWTypeException) e).error();
+        }
+        return null;
+    } // end of()
+
+    static String typeName(Object obj) {
+        return obj == null ? "null" : obj.getClass().getSimpleName();
+    } // end typeName()
+} // end enum KWError
@@ -0,0 +1,64 @@
+package kwargs;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Thrown when kwargs or defaultargs are not in key, value format, or lack a keyword without default value.
+ * Its message is only built if asked for, and it has no stack trace unless the 'kwargs.stackTraces'
+ * system property is true, so failing is cheap.
+ */
+public final class KWFormatException extends NoSuchElementException {
+    private static final long serialVersionUID = 1L;
+
+    private final KWError error;
+    private final int index;
+    // Keyword that is missing, null for a format error.
+    private final transient Object item;
+    // Index of the record in a batch, or -1.
+    private int record = -1;
+
+    KWFormatException(KWError error, int index, Object item) {
+        this.error = error;
+        this.index = index;
+        this.item = item;
+    }
+
+    /**
+     * @return {@link KWError#KWARGS_FORMAT}, {@link KWError#DEFAULTS_FORMAT} or {@link KWError#MISSING_KEY}.
+     */
+    public KWError error() {
+        return error;
+    } // end error()
+
+    /**
+     * @return Index of the key left without a value, or for parsed text, offset of the pair.
+     *         For a missing keyword, the length of kwargs (or of parsed text), where it was expected.
+     */
+    public int index() {
+        return index;
+    } // end index()
+
+    /**
+     * @return Index of the offending record, for {@link KWBatch#parse}, or -1.
+     */
+    public int record() {
+        return record;
+    } // end record()
+
+    // Marks this as the error of a record in a batch, to be rethrown.
+    KWFormatException inRecord(int record) {
+        this.record = record;
+        return this;
+    } // end inRecord()
+
+    @Override
+    public String getMessage() {
+        String message = error.message(item, null);
+        return record < 0 ? message : "Record " + record + ": " + message;
+    } // end getMessage()
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return KWError.STACK_TRACES ? super.fillInStackTrace() : this;
+    } // end fillInStackTrace()
+} // end class KWFormatException
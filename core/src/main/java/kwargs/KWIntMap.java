@@ -0,0 +1,97 @@
+package kwargs;
+
+/**
+ * Read-only map of String to int, without boxing. Returned by {@link KWArgs#kwIntMap}.
+ */
+public final class KWIntMap extends KWPrimitiveMap {
+    private final int[] values;
+
+    KWIntMap(int expected) {
+        super(expected);
+        values = new int[keys.length];
+    }
+
+    /**
+     * @param keys Keyword names.
+     * @param values Values of keywords, such that 'values[i]' corresponds to 'keys[i]'.
+     * @return Map of each key to its value. Later keys overwrite earlier ones.
+     * @throws IllegalArgumentException If keys and values differ in length
+     */
+    public static KWIntMap of(String[] keys, int[] values) {
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("Got " + keys.length + " keys but " + values.length + " values.");
+        }
+        KWIntMap kwmap = new KWIntMap(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            kwmap.put(keys[i], values[i]);
+        }
+        return kwmap;
+    } // end of()
+
+    // Map of each name to its index in 'names'.
+    static KWIntMap indexOf(String[] names) {
+        KWIntMap kwmap = new KWIntMap(names.length);
+        for (int i = 0; i < names.length; i++) {
+            kwmap.put(names[i], i);
+        }
+        return kwmap;
+    } // end indexOf()
+
+    // Copy of this map with room for 'extra' more keywords.
+    KWIntMap copy(int extra) {
+        KWIntMap kwmap = new KWIntMap(size() + extra);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                kwmap.put(keys[i], values[i]);
+            }
+        }
+        return kwmap;
+    } // end copy()
+
+    void put(String key, int value) {
+        values[insert(key)] = value;
+    } // end put()
+
+    @Override
+    boolean putBoxed(String key, Object value) {
+        if (!(value instanceof Integer)) {
+            return false;
+        }
+        put(key, (Integer) value);
+        return true;
+    } // end putBoxed()
+
+    // Gets the value at a table index found by find().
+    int valueAt(int i) {
+        return values[i];
+    } // end valueAt()
+
+    // Sets the value at a table index found by find().
+    void set(int i, int value) {
+        values[i] = value;
+    } // end set()
+
+    /**
+     * @param key Keyword name.
+     * @return Value of keyword.
+     * @throws java.util.NoSuchElementException If map has no value for keyword
+     */
+    public int get(String key) {
+        return values[indexOf(key)];
+    } // end get()
+
+    /**
+     * @param key Keyword name.
+     * @param defaultValue Value returned if map has no value for keyword.
+     * @return Value of keyword, or defaultValue.
+     */
+    public int getOrDefault(String key, int defaultValue) {
+        int i = find(key);
+        return i < 0 ? defaultValue : values[i];
+    } // end getOrDefault()
+
+    @Override
+    void appendValue(StringBuilder sb, int i) {
+        sb.append(values[i]);
+    } // end appendValue()
+} // end class KWIntMap
@@ -0,0 +1,269 @@
+package kwargs;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Implementation of {@link KWArgs#invoke}. Calls a real method with keyword arguments, matched to its parameters
+ * by name (as recorded by javac's '-parameters' flag).
+ * <p>
+ * Each (class, method name, key layout) is resolved by reflection once, into a {@link Binding} whose MethodHandle
+ * takes the kwargs array itself and reads each parameter from its position, so a call allocates nothing.
+ * Bindings are cached per class in a {@link ClassValue}, looked up by method name, and told apart by comparing
+ * keys by reference, since keywords are almost always interned string literals.
+ * The handle is read from a cached Binding, not a constant, so the JIT cannot inline through it the way it
+ * would a static final MethodHandle: a call costs a cache lookup and an indirect call more than a direct one.
+ */
+final class KWInvoker {
+    private static final ClassValue<Bindings> BINDINGS = new ClassValue<Bindings>() {
+        @Override
+        protected Bindings computeValue(Class<?> type) {
+            return new Bindings(type);
+        }
+    };
+
+    private KWInvoker() {
+    }
+
+    static Object invoke(Object target, String methodName, Object[] kwargs) {
+        // Make sure the kwargs alternate between key,value,key,value,etc.
+        if (kwargs.length % 2 != 0) {
+            throw KWError.KWARGS_FORMAT.exception(kwargs.length - 1, null, null);
+        }
+        if (target == null) {
+            throw new IllegalArgumentException("Target of method '" + methodName + "' must not be null.");
+        }
+        boolean isStatic = target instanceof Class;
+        Class<?> type = isStatic ? (Class<?>) target : target.getClass();
+
+        Binding binding = BINDINGS.get(type).find(methodName, isStatic, kwargs);
+        binding.check(kwargs);
+        try {
+            return (Object) binding.handle.invokeExact(target, kwargs);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    } // end invoke()
+
+    /**
+     * Bindings of one class: method name to index in a table, then one binding per key layout (usually just one).
+     * The table is replaced rather than changed, since bindings are added once and then only read.
+     */
+    private static final class Bindings {
+        private final Class<?> type;
+        private volatile KWIntMap index = new KWIntMap(0);
+        private volatile Binding[][] byMethod = new Binding[0][];
+        // Racy on purpose: any thread sees either null or a complete binding.
+        private Binding last;
+
+        Bindings(Class<?> type) {
+            this.type = type;
+        }
+
+        Binding find(String methodName, boolean isStatic, Object[] kwargs) {
+            // Method names are almost always literals, so a call usually matches the last binding found by reference.
+            Binding last = this.last;
+            if (last != null && last.methodName == methodName && last.matches(isStatic, kwargs)) {
+                return last;
+            }
+            Binding[][] byMethod = this.byMethod;
+            int i = index.getOrDefault(methodName, -1);
+            // A reader may see a new index with the old table, so the index is checked against it.
+            Binding binding = i >= 0 && i < byMethod.length ? find(byMethod[i], isStatic, kwargs) : null;
+            if (binding == null) {
+                binding = add(methodName, isStatic, kwargs);
+            }
+            this.last = binding;
+            return binding;
+        } // end find()
+
+        // Resolves a binding not found yet. Kept out of find(), so find() stays small enough to inline.
+        private synchronized Binding add(String methodName, boolean isStatic, Object[] kwargs) {
+            int i = index.getOrDefault(methodName, -1);
+            Binding binding = i >= 0 ? find(byMethod[i], isStatic, kwargs) : null;
+            if (binding != null) {
+                return binding;
+            }
+            binding = Binding.resolve(type, methodName, isStatic, kwargs);
+            Binding[][] next;
+            if (i < 0) {
+                next = Arrays.copyOf(byMethod, byMethod.length + 1);
+                next[byMethod.length] = new Binding[]{binding};
+            } else {
+                next = byMethod.clone();
+                next[i] = Arrays.copyOf(next[i], next[i].length + 1);
+                next[i][next[i].length - 1] = binding;
+            }
+            // Table first, so a reader never finds an index past the end of the table it read.
+            byMethod = next;
+            if (i < 0) {
+                KWIntMap nextIndex = index.copy(1);
+                nextIndex.put(methodName, next.length - 1);
+                index = nextIndex;
+            }
+            return binding;
+        } // end add()
+
+        private static Binding find(Binding[] bindings, boolean isStatic, Object[] kwargs) {
+            for (Binding binding : bindings) {
+                if (binding.matches(isStatic, kwargs)) {
+                    return binding;
+                }
+            }
+            return null;
+        } // end find()
+    } // end class Bindings
+
+    /**
+     * A method bound to one key layout.
+     */
+    private static final class Binding {
+        private static final MethodHandle ELEMENT = MethodHandles.arrayElementGetter(Object[].class);
+
+        private final String methodName;
+        private final boolean isStatic;
+        // Key at each kwargs pair, and the type its value must have.
+        private final String[] keys;
+        private final Class<?>[] types;
+        private final boolean[] primitive;
+        // (Object target, Object[] kwargs)Object
+        final MethodHandle handle;
+
+        private Binding(String methodName, boolean isStatic, String[] keys, Class<?>[] types, boolean[] primitive, MethodHandle handle) {
+            this.methodName = methodName;
+            this.isStatic = isStatic;
+            this.keys = keys;
+            this.types = types;
+            this.primitive = primitive;
+            this.handle = handle;
+        }
+
+        // If a call of this binding's method has its key layout. Compares keys by reference first, then by value.
+        boolean matches(boolean isStatic, Object[] kwargs) {
+            if (this.isStatic != isStatic || kwargs.length != keys.length * 2) {
+                return false;
+            }
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != kwargs[i * 2] && !keys[i].equals(kwargs[i * 2])) {
+                    return false;
+                }
+            }
+            return true;
+        } // end matches()
+
+        // Checks values up front, so a wrong type is reported as the kw* methods report it, not as a ClassCastException.
+        void check(Object[] kwargs) {
+            for (int i = 0; i < keys.length; i++) {
+                Object value = kwargs[i * 2 + 1];
+                if (value == null ? primitive[i] : !types[i].isInstance(value)) {
+                    throw KWError.VALUE_TYPE.exception(i * 2 + 1, value, types[i]);
+                }
+            }
+        } // end check()
+
+        static Binding resolve(Class<?> type, String methodName, boolean isStatic, Object[] kwargs) {
+            String[] keys = new String[kwargs.length / 2];
+            Set<String> keySet = new LinkedHashSet<>();
+            for (int i = 0; i < kwargs.length; i = i + 2) {
+                if (!(kwargs[i] instanceof String)) {
+                    throw KWError.KEY_TYPE.exception(i, kwargs[i], String.class);
+                }
+                keys[i / 2] = (String) kwargs[i];
+                if (!keySet.add(keys[i / 2])) {
+                    throw KWError.DUPLICATE_KEY.exception(i, keys[i / 2], null);
+                }
+            }
+
+            // Find the one method whose parameter names are exactly the keys
+            List<Method> candidates = new ArrayList<>();
+            boolean namesMissing = false;
+            for (Method method : methods(type)) {
+                if (!method.getName().equals(methodName) || method.isBridge() || Modifier.isStatic(method.getModifiers()) != isStatic || method.getParameterCount() != keys.length) {
+                    continue;
+                }
+                Set<String> names = new LinkedHashSet<>();
+                for (Parameter parameter : method.getParameters()) {
+                    namesMissing |= !parameter.isNamePresent();
+                    names.add(parameter.getName());
+                }
+                if (names.equals(keySet)) {
+                    candidates.add(method);
+                }
+            }
+            String kind = isStatic ? "static method" : "method";
+            if (candidates.isEmpty()) {
+                if (namesMissing) {
+                    throw new IllegalArgumentException("Parameter names of " + kind + " '" + methodName + "' in class " + type.getSimpleName() + " are not available. Compile it with javac's '-parameters' flag.");
+                }
+                throw new IllegalArgumentException("Class " + type.getSimpleName() + " has no " + kind + " '" + methodName + "' with parameters " + keySet + ".");
+            }
+            if (candidates.size() > 1) {
+                throw new IllegalArgumentException("Class " + type.getSimpleName() + " has more than one " + kind + " '" + methodName + "' with parameters " + keySet + ".");
+            }
+            Method method = candidates.get(0);
+            if (!Modifier.isPublic(method.getModifiers()) || !Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                if (!method.trySetAccessible()) {
+                    throw new IllegalArgumentException("Method '" + methodName + "' in class " + type.getSimpleName() + " is not accessible.");
+                }
+            }
+
+            // Parameter 'j' of the method reads its value from kwargs[positions[j]]
+            Parameter[] parameters = method.getParameters();
+            Class<?>[] types = new Class<?>[keys.length];
+            boolean[] primitive = new boolean[keys.length];
+            MethodHandle[] getters = new MethodHandle[keys.length];
+            for (int j = 0; j < parameters.length; j++) {
+                int i = Arrays.asList(keys).indexOf(parameters[j].getName());
+                types[i] = KWSchema.wrap(parameters[j].getType());
+                primitive[i] = parameters[j].getType().isPrimitive();
+                getters[j] = MethodHandles.insertArguments(ELEMENT, 1, i * 2 + 1);
+            }
+
+            MethodHandle handle;
+            try {
+                handle = MethodHandles.lookup().unreflect(method);
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("Method '" + methodName + "' in class " + type.getSimpleName() + " is not accessible.", e);
+            }
+            if (isStatic) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            // (Object, Object...)Object, then (Object, Object[], Object[]...)Object, then (Object, Object[])Object
+            handle = handle.asType(MethodType.genericMethodType(keys.length + 1));
+            handle = MethodHandles.filterArguments(handle, 1, getters);
+            int[] reorder = new int[keys.length + 1];
+            Arrays.fill(reorder, 1, reorder.length, 1);
+            handle = MethodHandles.permuteArguments(handle, MethodType.methodType(Object.class, Object.class, Object[].class), reorder);
+            return new Binding(methodName, isStatic, keys, types, primitive, handle);
+        } // end resolve()
+
+        // Public methods, including inherited ones, then every other method of the class and its superclasses.
+        // Methods overridden further down the hierarchy are left out.
+        private static List<Method> methods(Class<?> type) {
+            List<Method> methods = new ArrayList<>();
+            Set<List<Object>> signatures = new LinkedHashSet<>();
+            List<Method> all = new ArrayList<>(Arrays.asList(type.getMethods()));
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                all.addAll(Arrays.asList(c.getDeclaredMethods()));
+            }
+            for (Method method : all) {
+                if (signatures.add(Arrays.asList(method.getName(), Arrays.asList(method.getParameterTypes())))) {
+                    methods.add(method);
+                }
+            }
+            return methods;
+        } // end methods()
+    } // end class Binding
+} // end class KWInvoker
@@ -0,0 +1,37 @@
+package kwargs;
+
+/**
+ * Receives every instrumented kw* call while {@link KWMetrics} is enabled, ex. to forward to a metrics library.
+ * Called on the calling thread, so implementations should be quick and must not throw.
+ */
+public interface KWListener {
+    /**
+     * A call that returned a Map.
+     *
+     * @param method Name of kw* method, ex. "kwInteger".
+     * @param pairs Number of key-value pairs in kwargs.
+     * @param defaultsApplied Number of defaults not overridden by kwargs.
+     * @param overrides Number of defaults overridden by kwargs.
+     */
+    default void onCall(String method, int pairs, int defaultsApplied, int overrides) {
+    } // end onCall()
+
+    /**
+     * A call that threw, or a tryKw() call that returned a failure.
+     *
+     * @param method Name of kw* method, ex. "kwInteger".
+     * @param cause What was wrong with the arguments, or null if the exception carries no {@link KWError}.
+     * @param exception Exception thrown to the caller, or null for tryKw().
+     */
+    default void onFailure(String method, KWError cause, RuntimeException exception) {
+    } // end onFailure()
+
+    /**
+     * A call that was sampled for latency. Only one in {@link KWMetrics#getSampleRate()} calls is timed.
+     *
+     * @param method Name of kw* method, ex. "kwInteger".
+     * @param nanos Time spent in call, in nanoseconds.
+     */
+    default void onLatency(String method, long nanos) {
+    } // end onLatency()
+} // end interface KWListener
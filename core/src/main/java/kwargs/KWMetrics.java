@@ -0,0 +1,309 @@
+package kwargs;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * Optional instrumentation of the kw* methods of {@link KWArgs}: counters of calls, pairs, defaults and overrides,
+ * failures by {@link KWError}, and a histogram of sampled latencies. Off by default. While off, a call only reads one flag.
+ * <pre>
+ * KWMetrics.enable();  // or run with -Dkwargs.metrics=true, or set Enabled through JMX
+ * ...
+ * long failures = KWMetrics.metrics().getFailures().get("VALUE_TYPE");
+ * </pre>
+ * Instrumented: kw(), the typed kwString() to kwFloat(), kwView(), kwCompact(), kwForward() (counting the parent's
+ * pairs as defaults), tryKw() (counting returned failures) and scope(). Not instrumented: the primitive maps
+ * (kwIntMap() etc.), invoke(), bind(), {@link KWSchema#parse}, {@link KWBatch} and {@link KWParser}.
+ * <p>
+ * Counters are striped {@link LongAdder}s, so threads calling kw* at once don't contend on them.
+ * Defaults applied and overrides are worked out from the size of the returned Map, assuming no key is repeated
+ * within kwargs or within defaultargs.
+ */
+public final class KWMetrics implements KWMetricsMXBean {
+    /**
+     * Name under which {@link #getFailures()} counts failures that carry no {@link KWError}.
+     */
+    public static final String OTHER = "OTHER";
+
+    private static final String OBJECT_NAME = "kwargs:type=KWMetrics";
+    private static final KWMetrics INSTANCE = new KWMetrics();
+
+    // Read by every kw* call, so kept apart from the rest of the state.
+    static volatile boolean enabled;
+
+    private static volatile int sampleRate = 64;
+    private static volatile KWListener[] listeners = new KWListener[0];
+
+    private static final LongAdder calls = new LongAdder();
+    private static final LongAdder pairs = new LongAdder();
+    private static final LongAdder defaultsApplied = new LongAdder();
+    private static final LongAdder overrides = new LongAdder();
+    private static final LongAdder sampledCalls = new LongAdder();
+    private static final KWError[] ERRORS = KWError.values();
+    // Failures by ordinal of their KWError, and last those without one.
+    private static final LongAdder[] failures = adders(ERRORS.length + 1);
+    private static final LongAdder[] latencies = adders(64);
+
+    static {
+        if (Boolean.getBoolean("kwargs.metrics")) {
+            enable();
+        }
+    }
+
+    private KWMetrics() {
+    }
+
+    /**
+     * Turns instrumentation on, and registers {@link #metrics()} with the platform MBean server.
+     */
+    public static void enable() {
+        register();
+        enabled = true;
+    } // end enable()
+
+    /**
+     * Turns instrumentation off. Counters keep their values.
+     */
+    public static void disable() {
+        enabled = false;
+    } // end disable()
+
+    /**
+     * Registers {@link #metrics()} with the platform MBean server as "kwargs:type=KWMetrics", without enabling it,
+     * so it can be enabled through JMX. Does nothing if already registered.
+     */
+    public static void register() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            // Already registered
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register " + OBJECT_NAME + ".", e);
+        }
+    } // end register()
+
+    /**
+     * @return Counters, also registered as an MXBean.
+     */
+    public static KWMetrics metrics() {
+        return INSTANCE;
+    } // end metrics()
+
+    /**
+     * @param listener Listener to call on every instrumented call, while enabled.
+     */
+    public static synchronized void addListener(KWListener listener) {
+        KWListener[] next = Arrays.copyOf(listeners, listeners.length + 1);
+        next[listeners.length] = listener;
+        listeners = next;
+    } // end addListener()
+
+    /**
+     * @param listener Listener added by {@link #addListener}.
+     */
+    public static synchronized void removeListener(KWListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                KWListener[] next = Arrays.copyOf(listeners, listeners.length - 1);
+                System.arraycopy(listeners, i + 1, next, i, next.length - i);
+                listeners = next;
+                return;
+            }
+        }
+    } // end removeListener()
+
+    // Runs one kw* call and records it. Only called while enabled.
+    static <D, M extends Map<String, ?>> M measure(String method, Object[] kwargs, D defaultargs, int defaultPairs, BiFunction<Object[], D, M> parse) {
+        boolean sampled = ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+        long start = sampled ? System.nanoTime() : 0;
+        M kwmap;
+        try {
+            kwmap = parse.apply(kwargs, defaultargs);
+        } catch (RuntimeException e) {
+            failed(method, KWError.of(e), e);
+            throw e;
+        }
+        if (sampled) {
+            sampled(method, System.nanoTime() - start);
+        }
+        succeeded(method, kwargs.length / 2, defaultPairs, kwmap.size());
+        return kwmap;
+    } // end measure()
+
+    // Same as measure(), for tryKw(), whose failures are returned instead of thrown.
+    static <V> KWResult<V> measureResult(String method, Object[] kwargs, Object[] defaultargs, BiFunction<Object[], Object[], KWResult<V>> parse) {
+        boolean sampled = ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+        long start = sampled ? System.nanoTime() : 0;
+        KWResult<V> result = parse.apply(kwargs, defaultargs);
+        if (!result.isOk()) {
+            failed(method, result.error(), null);
+            return result;
+        }
+        if (sampled) {
+            sampled(method, System.nanoTime() - start);
+        }
+        succeeded(method, kwargs.length / 2, defaultargs.length / 2, result.map().size());
+        return result;
+    } // end measureResult()
+
+    private static void succeeded(String method, int kwPairs, int defaultPairs, int size) {
+        int overridden = Math.max(0, Math.min(defaultPairs, kwPairs + defaultPairs - size));
+        calls.increment();
+        pairs.add(kwPairs);
+        defaultsApplied.add(defaultPairs - overridden);
+        overrides.add(overridden);
+        for (KWListener listener : listeners) {
+            listener.onCall(method, kwPairs, defaultPairs - overridden, overridden);
+        }
+    } // end succeeded()
+
+    // error is null for a failure that carries none, ex. a NullPointerException, and e is null for a returned failure.
+    private static void failed(String method, KWError error, RuntimeException e) {
+        failures[error == null ? ERRORS.length : error.ordinal()].increment();
+        for (KWListener listener : listeners) {
+            listener.onFailure(method, error, e);
+        }
+    } // end failed()
+
+    private static void sampled(String method, long nanos) {
+        sampledCalls.increment();
+        latencies[63 - Long.numberOfLeadingZeros(Math.max(nanos, 1))].increment();
+        for (KWListener listener : listeners) {
+            listener.onLatency(method, nanos);
+        }
+    } // end sampled()
+
+    private static LongAdder[] adders(int length) {
+        LongAdder[] adders = new LongAdder[length];
+        for (int i = 0; i < length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    } // end adders()
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    } // end isEnabled()
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        KWMetrics.enabled = enabled;
+    } // end setEnabled()
+
+    @Override
+    public int getSampleRate() {
+        return sampleRate;
+    } // end getSampleRate()
+
+    /**
+     * @param sampleRate Time one in this many calls. 1 times every call.
+     * @throws IllegalArgumentException If sampleRate is less than 1
+     */
+    @Override
+    public void setSampleRate(int sampleRate) {
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("Sample rate must be at least 1, not " + sampleRate + ".");
+        }
+        KWMetrics.sampleRate = sampleRate;
+    } // end setSampleRate()
+
+    @Override
+    public long getCalls() {
+        return calls.sum();
+    } // end getCalls()
+
+    @Override
+    public long getPairs() {
+        return pairs.sum();
+    } // end getPairs()
+
+    @Override
+    public long getDefaultsApplied() {
+        return defaultsApplied.sum();
+    } // end getDefaultsApplied()
+
+    @Override
+    public long getOverrides() {
+        return overrides.sum();
+    } // end getOverrides()
+
+    @Override
+    public Map<String, Long> getFailures() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (KWError error : ERRORS) {
+            counts.put(error.name(), failures[error.ordinal()].sum());
+        }
+        counts.put(OTHER, failures[ERRORS.length].sum());
+        return counts;
+    } // end getFailures()
+
+    @Override
+    public long getSampledCalls() {
+        return sampledCalls.sum();
+    } // end getSampledCalls()
+
+    @Override
+    public long[] getLatencyHistogram() {
+        long[] counts = new long[latencies.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = latencies[i].sum();
+        }
+        return counts;
+    } // end getLatencyHistogram()
+
+    @Override
+    public long getLatencyP50Nanos() {
+        return percentile(0.5);
+    } // end getLatencyP50Nanos()
+
+    @Override
+    public long getLatencyP99Nanos() {
+        return percentile(0.99);
+    } // end getLatencyP99Nanos()
+
+    @Override
+    public long getLatencyP999Nanos() {
+        return percentile(0.999);
+    } // end getLatencyP999Nanos()
+
+    // Upper bound of the histogram bucket holding the given fraction of sampled calls, or 0 if none were sampled.
+    private long percentile(double fraction) {
+        long[] counts = getLatencyHistogram();
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen > 0 && seen >= fraction * total) {
+                return i == 62 ? Long.MAX_VALUE : 1L << (i + 1);
+            }
+        }
+        return 0;
+    } // end percentile()
+
+    @Override
+    public void reset() {
+        calls.reset();
+        pairs.reset();
+        defaultsApplied.reset();
+        overrides.reset();
+        sampledCalls.reset();
+        for (LongAdder adder : failures) {
+            adder.reset();
+        }
+        for (LongAdder adder : latencies) {
+            adder.reset();
+        }
+    } // end reset()
+} // end class KWMetrics
@@ -0,0 +1,50 @@
+package kwargs;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link KWMetrics}, registered as "kwargs:type=KWMetrics".
+ */
+public interface KWMetricsMXBean {
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    /**
+     * @return One in this many calls is timed.
+     */
+    int getSampleRate();
+
+    void setSampleRate(int sampleRate);
+
+    long getCalls();
+
+    long getPairs();
+
+    long getDefaultsApplied();
+
+    long getOverrides();
+
+    /**
+     * @return Number of failed calls, by {@link KWError} name, or {@link KWMetrics#OTHER}.
+     */
+    Map<String, Long> getFailures();
+
+    long getSampledCalls();
+
+    /**
+     * @return Number of sampled calls by latency, where element 'i' counts calls of 2^i to 2^(i+1) nanoseconds.
+     */
+    long[] getLatencyHistogram();
+
+    long getLatencyP50Nanos();
+
+    long getLatencyP99Nanos();
+
+    long getLatencyP999Nanos();
+
+    /**
+     * Sets every counter back to 0.
+     */
+    void reset();
+} // end interface KWMetricsMXBean
@@ -0,0 +1,262 @@
+package kwargs;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Read-only layer of kwargs over a parent Map, returned by {@link KWArgs#kwForward}, for forwarding kwargs
+ * to a callee with a few keywords added, overridden or removed.
+ * <pre>
+ * void draw(Map&lt;String, Object&gt; kwargs) {
+ *     shape(KWArgs.kwForward(kwargs, "color", "red").without("alpha"));
+ * }
+ * </pre>
+ * A layer holds only its own changes, so forwarding costs O(changes) instead of a copy of every pair.
+ * Lookups walk the chain of layers down to the first Map that is not a layer, the root. Once a chain is deeper than
+ * {@link #MAX_DEPTH} (system property "kwargs.overlayDepth", 8 by default), the new layer instead folds the changes
+ * of the whole chain into one layer over the root, so lookups never walk more than MAX_DEPTH layers.
+ * Folding costs O(changes of the chain), once every MAX_DEPTH layers; the root is never copied.
+ * So the root must not be modified while layers over it are in use.
+ * Layers themselves never change, so they are safe to share between threads if their parents are.
+ */
+public final class KWOverlay<V> extends AbstractMap<String, V> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Most layers a lookup walks before reaching a plain Map.
+     */
+    public static final int MAX_DEPTH = Math.max(1, Integer.getInteger("kwargs.overlayDepth", 8));
+
+    // Value of a removed keyword in own, and result of a lookup that found nothing.
+    private static final Object REMOVED = new Object(), ABSENT = new Object();
+
+    private final Class<V> type;
+    private final Map<String, ? extends V> parent;
+    // Keywords added, overridden, or REMOVED by this layer
+    private final KWCompactMap<Object> own;
+    private final int depth;
+    private final int size;
+
+    private KWOverlay(Class<V> type, Map<String, ? extends V> parent, KWCompactMap<Object> own, int depth) {
+        this.type = type;
+        this.parent = parent;
+        this.own = own;
+        this.depth = depth;
+        int size = parent.size();
+        for (Entry<String, Object> entry : own.entrySet()) {
+            boolean inParent = parent.containsKey(entry.getKey());
+            if (entry.getValue() == REMOVED) {
+                size -= inParent ? 1 : 0;
+            } else {
+                size += inParent ? 0 : 1;
+            }
+        }
+        this.size = size;
+    }
+
+    /**
+     * @param type Type every value must have, or null for any type.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If key in key-value pair is not String, or value is not of type
+     */
+    static <V> KWOverlay<V> of(Class<V> type, Map<String, ? extends V> parent, Object[] kwargs) {
+        return over(type, parent, KWCompactMap.of(KWConverter.widening(type), kwargs, new Object[0]));
+    } // end of()
+
+    // New layer over parent, folding the chain of parent into it if the chain would get too deep.
+    @SuppressWarnings("unchecked")
+    private static <V> KWOverlay<V> over(Class<V> type, Map<String, ? extends V> parent, KWCompactMap<?> own) {
+        int depth = parent instanceof KWOverlay ? ((KWOverlay<?>) parent).depth + 1 : 1;
+        if (depth > MAX_DEPTH) {
+            KWOverlay<? extends V> top = (KWOverlay<? extends V>) parent;
+            own = top.fold(own);
+            parent = top.root();
+            depth = 1;
+        }
+        return new KWOverlay<>(type, parent, (KWCompactMap<Object>) own, depth);
+    } // end over()
+
+    // Changes of this chain of layers, then of own, in one map. Later changes overwrite earlier ones.
+    private KWCompactMap<Object> fold(KWCompactMap<?> own) {
+        int pairs = own.size();
+        Map<String, ?> layer = this;
+        while (layer instanceof KWOverlay) {
+            pairs += ((KWOverlay<?>) layer).own.size();
+            layer = ((KWOverlay<?>) layer).parent;
+        }
+        // Newest changes go last, so fill from the end: own, then this layer, down to the oldest.
+        Object[] changes = new Object[pairs * 2];
+        int end = put(changes, changes.length, own);
+        layer = this;
+        while (layer instanceof KWOverlay) {
+            end = put(changes, end, ((KWOverlay<?>) layer).own);
+            layer = ((KWOverlay<?>) layer).parent;
+        }
+        return KWCompactMap.of(null, changes, new Object[0]);
+    } // end fold()
+
+    // Puts the pairs of map just before 'end' in kwargs. Returns where they start.
+    private static int put(Object[] kwargs, int end, Map<String, ?> map) {
+        int i = end - map.size() * 2;
+        int start = i;
+        for (Entry<String, ?> entry : map.entrySet()) {
+            kwargs[i++] = entry.getKey();
+            kwargs[i++] = entry.getValue();
+        }
+        return start;
+    } // end put()
+
+    // First Map under this chain of layers that is not a layer.
+    private Map<String, ? extends V> root() {
+        Map<String, ? extends V> layer = this;
+        while (layer instanceof KWOverlay) {
+            layer = ((KWOverlay<? extends V>) layer).parent;
+        }
+        return layer;
+    } // end root()
+
+    /**
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Object (value).
+     * @return New layer over this one, adding or overriding the given keywords.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If key in key-value pair is not String, or value is not of this layer's type
+     */
+    public KWOverlay<V> with(Object... kwargs) {
+        return of(type, this, kwargs);
+    } // end with()
+
+    /**
+     * @param keys Keywords to remove.
+     * @return New layer over this one, without the given keywords.
+     * @throws IllegalArgumentException If a key is null
+     */
+    public KWOverlay<V> without(String... keys) {
+        Object[] removals = new Object[keys.length * 2];
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == null) {
+                throw KWError.KEY_TYPE.exception(i, null, String.class);
+            }
+            removals[i * 2] = keys[i];
+            removals[i * 2 + 1] = REMOVED;
+        }
+        return over(type, this, KWCompactMap.of(null, removals, new Object[0]));
+    } // end without()
+
+    /**
+     * @return Number of layers a lookup may walk, this one included.
+     */
+    public int depth() {
+        return depth;
+    } // end depth()
+
+    @Override
+    public int size() {
+        return size;
+    } // end size()
+
+    @Override
+    public V get(Object key) {
+        return getOrDefault(key, null);
+    } // end get()
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        KWOverlay<V> layer = this;
+        while (true) {
+            Object value = layer.own.getOrDefault(key, ABSENT);
+            if (value == REMOVED) {
+                return defaultValue;
+            }
+            if (value != ABSENT) {
+                return (V) value;
+            }
+            if (!(layer.parent instanceof KWOverlay)) {
+                return ((Map<String, V>) layer.parent).getOrDefault(key, defaultValue);
+            }
+            layer = (KWOverlay<V>) layer.parent;
+        }
+    } // end getOrDefault()
+
+    @Override
+    public boolean containsKey(Object key) {
+        Map<String, ? extends V> layer = this;
+        while (layer instanceof KWOverlay) {
+            Object value = ((KWOverlay<?>) layer).own.getOrDefault(key, ABSENT);
+            if (value != ABSENT) {
+                return value != REMOVED;
+            }
+            layer = ((KWOverlay<? extends V>) layer).parent;
+        }
+        return layer.containsKey(key);
+    } // end containsKey()
+
+    /**
+     * Entries of this layer first, then those of parent it does not shadow.
+     */
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+        return new AbstractSet<Entry<String, V>>() {
+            @Override
+            public Iterator<Entry<String, V>> iterator() {
+                return new Iterator<Entry<String, V>>() {
+                    private final Iterator<Entry<String, Object>> owned = own.entrySet().iterator();
+                    private final Iterator<? extends Entry<String, ? extends V>> inherited = parent.entrySet().iterator();
+                    private Entry<String, V> next = advance();
+
+                    @SuppressWarnings("unchecked")
+                    private Entry<String, V> advance() {
+                        while (owned.hasNext()) {
+                            Entry<String, Object> entry = owned.next();
+                            if (entry.getValue() != REMOVED) {
+                                return (Entry<String, V>) (Entry<String, ?>) entry;
+                            }
+                        }
+                        while (inherited.hasNext()) {
+                            Entry<String, ? extends V> entry = inherited.next();
+                            if (!own.containsKey(entry.getKey())) {
+                                // Entries of layers and compact maps are already immutable
+                                return parent instanceof KWOverlay || parent instanceof KWCompactMap
+                                        ? (Entry<String, V>) entry : new SimpleImmutableEntry<>(entry.getKey(), entry.getValue());
+                            }
+                        }
+                        return null;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return next != null;
+                    }
+
+                    @Override
+                    public Entry<String, V> next() {
+                        if (next == null) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<String, V> entry = next;
+                        next = advance();
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    } // end entrySet()
+
+    /**
+     * Serialized as a HashMap, so the chain of parents is not.
+     */
+    private Object writeReplace() {
+        return new HashMap<>(this);
+    } // end writeReplace()
+} // end class KWOverlay
@@ -0,0 +1,399 @@
+package kwargs;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+
+/**
+ * Parses kwargs from 'key=value,key=value' text, in one pass, without splitting it into substrings or an Object[].
+ * Keys are matched in place against a known key set: the keywords of a {@link KWSchema}, or the keys of a
+ * primitive map of defaults. Numbers are decoded straight into primitives. Only String values are copied out.
+ * <pre>
+ * KWSchema.Args args = KWParser.DEFAULT.parse(SCHEMA, "host=example.org,port=8080");
+ * KWIntMap limits = KWParser.QUERY.parseInts("max=10&amp;min=2", DEFAULT_LIMITS);
+ * </pre>
+ * A ByteBuffer is read from its position to its limit without moving either. Keys and numbers must be ASCII,
+ * String values are decoded as UTF-8. Errors report the offending offset in {@link KWTypeException#index()}
+ * (or {@link KWFormatException#index()}), counted from the start of the text.
+ */
+public final class KWParser {
+    /** Parses 'key=value,key=value'. */
+    public static final KWParser DEFAULT = new KWParser(',', '=');
+    /** Parses query strings, 'key=value&amp;key=value'. Values are not URL-decoded. */
+    public static final KWParser QUERY = new KWParser('&', '=');
+
+    // Powers of 10 that are exact as doubles, and the bound below which a long mantissa is exact too.
+    private static final double[] POWERS_OF_10 = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    private final char pairSeparator;
+    private final char valueSeparator;
+
+    /**
+     * @param pairSeparator Character between pairs, ex. ','.
+     * @param valueSeparator Character between a key and its value, ex. '='.
+     * @throws IllegalArgumentException If both separators are the same
+     */
+    public KWParser(char pairSeparator, char valueSeparator) {
+        if (pairSeparator == valueSeparator) {
+            throw new IllegalArgumentException("Separators must differ, both are '" + pairSeparator + "'.");
+        }
+        this.pairSeparator = pairSeparator;
+        this.valueSeparator = valueSeparator;
+    }
+
+    /**
+     * Parses text into the slots of a schema. Keywords not in text take their default value.
+     * Values are decoded by the keyword's type: integers, floating point, 'true'/'false', a single char, or a String.
+     *
+     * @param schema Keywords, types and defaults.
+     * @param text Text of key=value pairs.
+     * @return Values by slot.
+     * @throws NoSuchElementException If a key has no value, or a keyword without default value is not in text
+     * @throws IllegalArgumentException If a key is not part of schema, or a value cannot be decoded to its keyword's type
+     */
+    public KWSchema.Args parse(KWSchema schema, CharSequence text) {
+        Object[] values = schema.defaults();
+        int end = text.length();
+        for (int pos = 0; pos < end; ) {
+            int keyEnd = keyEnd(text, pos, end);
+            int valueEnd = valueEnd(text, keyEnd + 1, end);
+            int slot = schema.indexOf(text, pos, keyEnd);
+            if (slot < 0) {
+                throw KWError.UNKNOWN_KEY.exception(pos, string(text, pos, keyEnd), null);
+            }
+            values[slot] = decode(schema.valueType(slot), text, keyEnd + 1, valueEnd);
+            pos = valueEnd + 1;
+        }
+
+        // Make sure every keyword without a default value was passed
+        for (int slot = 0; slot < values.length; slot++) {
+            if (KWSchema.isMissing(values[slot])) {
+                throw KWError.MISSING_KEY.exception(end, schema.name(slot), null);
+            }
+        }
+        return new KWSchema.Args(schema, values);
+    } // end parse()
+
+    /**
+     * Same as {@link #parse(KWSchema, CharSequence)}, for ASCII or UTF-8 bytes.
+     */
+    public KWSchema.Args parse(KWSchema schema, ByteBuffer text) {
+        return parse(schema, new Bytes(text));
+    } // end parse()
+
+    /**
+     * Parses text over a copy of defaults, like {@link KWArgs#kwIntMap(Object[], KWIntMap)}.
+     * Only keys of defaults are allowed.
+     *
+     * @param text Text of key=value pairs.
+     * @param defaultargs Default values, and the allowed keys. Not modified.
+     * @return Map of String to int.
+     * @throws NoSuchElementException If a key has no value
+     * @throws IllegalArgumentException If a key is not in defaults, or a value is not an int
+     */
+    public KWIntMap parseInts(CharSequence text, KWIntMap defaultargs) {
+        KWIntMap kwmap = defaultargs.copy(0);
+        int end = text.length();
+        for (int pos = 0; pos < end; ) {
+            int keyEnd = keyEnd(text, pos, end);
+            int valueEnd = valueEnd(text, keyEnd + 1, end);
+            kwmap.set(find(kwmap, text, pos, keyEnd), (int) decodeLong(text, keyEnd + 1, valueEnd, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.class));
+            pos = valueEnd + 1;
+        }
+        return kwmap;
+    } // end parseInts()
+
+    /**
+     * Same as {@link #parseInts(CharSequence, KWIntMap)}, for ASCII bytes.
+     */
+    public KWIntMap parseInts(ByteBuffer text, KWIntMap defaultargs) {
+        return parseInts(new Bytes(text), defaultargs);
+    } // end parseInts()
+
+    /**
+     * Parses text over a copy of defaults, like {@link KWArgs#kwLongMap(Object[], KWLongMap)}.
+     * Only keys of defaults are allowed.
+     *
+     * @param text Text of key=value pairs.
+     * @param defaultargs Default values, and the allowed keys. Not modified.
+     * @return Map of String to long.
+     * @throws NoSuchElementException If a key has no value
+     * @throws IllegalArgumentException If a key is not in defaults, or a value is not a long
+     */
+    public KWLongMap parseLongs(CharSequence text, KWLongMap defaultargs) {
+        KWLongMap kwmap = defaultargs.copy(0);
+        int end = text.length();
+        for (int pos = 0; pos < end; ) {
+            int keyEnd = keyEnd(text, pos, end);
+            int valueEnd = valueEnd(text, keyEnd + 1, end);
+            kwmap.set(find(kwmap, text, pos, keyEnd), decodeLong(text, keyEnd + 1, valueEnd, Long.MIN_VALUE, Long.MAX_VALUE, Long.class));
+            pos = valueEnd + 1;
+        }
+        return kwmap;
+    } // end parseLongs()
+
+    /**
+     * Same as {@link #parseLongs(CharSequence, KWLongMap)}, for ASCII bytes.
+     */
+    public KWLongMap parseLongs(ByteBuffer text, KWLongMap defaultargs) {
+        return parseLongs(new Bytes(text), defaultargs);
+    } // end parseLongs()
+
+    /**
+     * Parses text over a copy of defaults, like {@link KWArgs#kwDoubleMap(Object[], KWDoubleMap)}.
+     * Only keys of defaults are allowed.
+     *
+     * @param text Text of key=value pairs.
+     * @param defaultargs Default values, and the allowed keys. Not modified.
+     * @return Map of String to double.
+     * @throws NoSuchElementException If a key has no value
+     * @throws IllegalArgumentException If a key is not in defaults, or a value is not a double
+     */
+    public KWDoubleMap parseDoubles(CharSequence text, KWDoubleMap defaultargs) {
+        KWDoubleMap kwmap = defaultargs.copy(0);
+        int end = text.length();
+        for (int pos = 0; pos < end; ) {
+            int keyEnd = keyEnd(text, pos, end);
+            int valueEnd = valueEnd(text, keyEnd + 1, end);
+            kwmap.set(find(kwmap, text, pos, keyEnd), decodeDouble(text, keyEnd + 1, valueEnd, Double.class));
+            pos = valueEnd + 1;
+        }
+        return kwmap;
+    } // end parseDoubles()
+
+    /**
+     * Same as {@link #parseDoubles(CharSequence, KWDoubleMap)}, for ASCII bytes.
+     */
+    public KWDoubleMap parseDoubles(ByteBuffer text, KWDoubleMap defaultargs) {
+        return parseDoubles(new Bytes(text), defaultargs);
+    } // end parseDoubles()
+
+    // End of the key starting at pos, where its value separator is.
+    private int keyEnd(CharSequence text, int pos, int end) {
+        for (int c = pos; c < end; c++) {
+            char ch = text.charAt(c);
+            if (ch == valueSeparator) {
+                return c;
+            } else if (ch == pairSeparator) {
+                break;
+            }
+        }
+        throw KWError.KWARGS_FORMAT.exception(pos, null, null);
+    } // end keyEnd()
+
+    // End of the value starting at pos, where the next pair separator (or the text) ends.
+    private int valueEnd(CharSequence text, int pos, int end) {
+        for (int c = pos; c < end; c++) {
+            if (text.charAt(c) == pairSeparator) {
+                return c;
+            }
+        }
+        return end;
+    } // end valueEnd()
+
+    private static int find(KWPrimitiveMap kwmap, CharSequence text, int from, int to) {
+        int i = kwmap.find(text, from, to);
+        if (i < 0) {
+            throw KWError.UNKNOWN_KEY.exception(from, string(text, from, to), null);
+        }
+        return i;
+    } // end find()
+
+    // Decodes text[from, to) to a value of a schema's (wrapped) type.
+    private static Object decode(Class<?> type, CharSequence text, int from, int to) {
+        if (type == Integer.class) {
+            return (int) decodeLong(text, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE, type);
+        } else if (type == Long.class) {
+            return decodeLong(text, from, to, Long.MIN_VALUE, Long.MAX_VALUE, type);
+        } else if (type == Double.class) {
+            return decodeDouble(text, from, to, type);
+        } else if (type == Float.class) {
+            return decodeFloat(text, from, to);
+        } else if (type == Short.class) {
+            return (short) decodeLong(text, from, to, Short.MIN_VALUE, Short.MAX_VALUE, type);
+        } else if (type == Byte.class) {
+            return (byte) decodeLong(text, from, to, Byte.MIN_VALUE, Byte.MAX_VALUE, type);
+        } else if (type == Boolean.class) {
+            if (regionEquals(text, from, to, "true")) {
+                return Boolean.TRUE;
+            } else if (regionEquals(text, from, to, "false")) {
+                return Boolean.FALSE;
+            }
+        } else if (type == Character.class) {
+            if (to - from == 1) {
+                return text.charAt(from);
+            }
+        } else if (type.isAssignableFrom(String.class)) {
+            return string(text, from, to);
+        }
+        throw KWError.VALUE_TYPE.exception(from, string(text, from, to), type);
+    } // end decode()
+
+    // Decodes a decimal integer in [min, max], with an optional sign.
+    private static long decodeLong(CharSequence text, int from, int to, long min, long max, Class<?> type) {
+        boolean negative = to - from > 1 && text.charAt(from) == '-';
+        int c = negative || (to - from > 1 && text.charAt(from) == '+') ? from + 1 : from;
+        if (c == to) {
+            throw KWError.VALUE_TYPE.exception(from, string(text, from, to), type);
+        }
+        // Accumulate negatively, since Long.MIN_VALUE has no positive counterpart
+        long value = 0;
+        for (; c < to; c++) {
+            int digit = text.charAt(c) - '0';
+            if (digit < 0 || digit > 9 || value < (Long.MIN_VALUE + digit) / 10) {
+                throw KWError.VALUE_TYPE.exception(from, string(text, from, to), type);
+            }
+            value = value * 10 - digit;
+        }
+        if (!negative) {
+            if (value == Long.MIN_VALUE) {
+                throw KWError.VALUE_TYPE.exception(from, string(text, from, to), type);
+            }
+            value = -value;
+        }
+        if (value < min || value > max) {
+            throw KWError.VALUE_TYPE.exception(from, string(text, from, to), type);
+        }
+        return value;
+    } // end decodeLong()
+
+    // Decodes a double. Plain decimals of up to 15 digits are exact as mantissa / 10^scale, and need no String.
+    // Other decimals (exponents, long mantissas, 'NaN', etc) go through Double.parseDouble().
+    private static double decodeDouble(CharSequence text, int from, int to, Class<?> type) {
+        boolean negative = to - from > 1 && text.charAt(from) == '-';
+        int c = negative || (to - from > 1 && text.charAt(from) == '+') ? from + 1 : from;
+        long mantissa = 0;
+        int digits = 0, scale = -1;
+        for (; c < to; c++) {
+            char ch = text.charAt(c);
+            if (ch >= '0' && ch <= '9') {
+                mantissa = mantissa * 10 + (ch - '0');
+                if (++digits > 15) {
+                    break;
+                }
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (ch == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                break;
+            }
+        }
+        if (c == to && digits > 0 && mantissa < MAX_EXACT_MANTISSA) {
+            double value = scale > 0 ? mantissa / POWERS_OF_10[scale] : mantissa;
+            return negative ? -value : value;
+        }
+        if (!isDecimal(text, from, to)) {
+            throw KWError.VALUE_TYPE.exception(from, string(text, from, to), type);
+        }
+        return Double.parseDouble(string(text, from, to));
+    } // end decodeDouble()
+
+    // Floats are rare in kwargs text, so they are not worth a rounding-exact fast path of their own.
+    private static float decodeFloat(CharSequence text, int from, int to) {
+        if (!isDecimal(text, from, to)) {
+            throw KWError.VALUE_TYPE.exception(from, string(text, from, to), Float.class);
+        }
+        return Float.parseFloat(string(text, from, to));
+    } // end decodeFloat()
+
+    // If text is an optional sign, then digits with an optional fraction and exponent, or 'NaN' or 'Infinity'.
+    // Double.parseDouble() also takes surrounding whitespace, hex floats and 'd'/'f' suffixes, which are
+    // rejected here so floating point values are as strict as integers.
+    private static boolean isDecimal(CharSequence text, int from, int to) {
+        int c = from < to && (text.charAt(from) == '-' || text.charAt(from) == '+') ? from + 1 : from;
+        if (regionEquals(text, c, to, "NaN") || regionEquals(text, c, to, "Infinity")) {
+            return true;
+        }
+        int digits = 0;
+        for (; c < to && isDigit(text.charAt(c)); c++) {
+            digits++;
+        }
+        if (c < to && text.charAt(c) == '.') {
+            for (c++; c < to && isDigit(text.charAt(c)); c++) {
+                digits++;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        if (c < to && (text.charAt(c) == 'e' || text.charAt(c) == 'E')) {
+            c = c + 1 < to && (text.charAt(c + 1) == '-' || text.charAt(c + 1) == '+') ? c + 2 : c + 1;
+            int exponent = c;
+            while (c < to && isDigit(text.charAt(c))) {
+                c++;
+            }
+            if (c == exponent) {
+                return false;
+            }
+        }
+        return c == to;
+    } // end isDecimal()
+
+    private static boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    } // end isDigit()
+
+    private static boolean regionEquals(CharSequence text, int from, int to, String s) {
+        if (to - from != s.length()) {
+            return false;
+        }
+        for (int c = 0; c < s.length(); c++) {
+            if (text.charAt(from + c) != s.charAt(c)) {
+                return false;
+            }
+        }
+        return true;
+    } // end regionEquals()
+
+    private static String string(CharSequence text, int from, int to) {
+        return text instanceof Bytes ? ((Bytes) text).decode(from, to) : text.subSequence(from, to).toString();
+    } // end string()
+
+    /**
+     * Bytes between a buffer's position and limit, read in place as chars (one per byte).
+     */
+    private static final class Bytes implements CharSequence {
+        private final ByteBuffer buffer;
+        private final int offset, length;
+
+        Bytes(ByteBuffer buffer) {
+            this.buffer = buffer;
+            this.offset = buffer.position();
+            this.length = buffer.remaining();
+        }
+
+        @Override
+        public int length() {
+            return length;
+        } // end length()
+
+        @Override
+        public char charAt(int index) {
+            return (char) (buffer.get(offset + index) & 0xFF);
+        } // end charAt()
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return decode(start, end);
+        } // end subSequence()
+
+        // Bytes [from, to) as UTF-8.
+        String decode(int from, int to) {
+            if (buffer.hasArray()) {
+                return new String(buffer.array(), buffer.arrayOffset() + offset + from, to - from, StandardCharsets.UTF_8);
+            }
+            byte[] bytes = new byte[to - from];
+            buffer.get(offset + from, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        } // end decode()
+
+        @Override
+        public String toString() {
+            return decode(0, length);
+        } // end toString()
+    } // end class Bytes
+} // end class KWParser
@@ -0,0 +1,132 @@
+package kwargs;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Base of the primitive-valued kwargs maps ({@link KWIntMap}, {@link KWDoubleMap}, etc).
+ * Keys live in an open-addressing table with linear probing, and each subclass keeps its values
+ * in a primitive array at the same index as the key, so values are never boxed.
+ * Maps are filled once by {@link KWArgs} and are read-only afterwards.
+ */
+public abstract class KWPrimitiveMap {
+    // Table of keys, power of 2 capacity, at most half full. Null marks an empty slot.
+    final String[] keys;
+    private int size;
+
+    KWPrimitiveMap(int expected) {
+        int capacity = 2;
+        while (capacity < expected * 2) {
+            capacity = capacity << 1;
+        }
+        keys = new String[capacity];
+    }
+
+    // Finds the index of a key, or '-(index where it would be inserted) - 1' if absent.
+    final int find(Object key) {
+        int mask = keys.length - 1;
+        int h = key.hashCode();
+        int i = (h ^ (h >>> 16)) & mask;
+        while (true) {
+            String k = keys[i];
+            if (k == null) {
+                return -i - 1;
+            }
+            if (k == key || k.equals(key)) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+    } // end find()
+
+    // Same as find(Object), for the key in text[from, to), without making a String of it.
+    final int find(CharSequence text, int from, int to) {
+        int mask = keys.length - 1;
+        int h = 0;
+        for (int c = from; c < to; c++) {
+            h = 31 * h + text.charAt(c);
+        }
+        int i = (h ^ (h >>> 16)) & mask;
+        while (true) {
+            String k = keys[i];
+            if (k == null) {
+                return -i - 1;
+            }
+            if (k.length() == to - from && matches(k, text, from)) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+    } // end find()
+
+    private static boolean matches(String key, CharSequence text, int from) {
+        for (int c = 0; c < key.length(); c++) {
+            if (key.charAt(c) != text.charAt(from + c)) {
+                return false;
+            }
+        }
+        return true;
+    } // end matches()
+
+    // Finds the index of a key, adding it to the table if absent.
+    final int insert(String key) {
+        int i = find(key);
+        if (i < 0) {
+            i = -i - 1;
+            keys[i] = key;
+            size++;
+        }
+        return i;
+    } // end insert()
+
+    // Finds the index of a key that must be present.
+    final int indexOf(String key) {
+        int i = find(key);
+        if (i < 0) {
+            throw new NoSuchElementException("Keyword '" + key + "' not found.");
+        }
+        return i;
+    } // end indexOf()
+
+    /**
+     * @return Number of keywords in map.
+     */
+    public int size() {
+        return size;
+    } // end size()
+
+    /**
+     * @return If map has no keywords.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    } // end isEmpty()
+
+    /**
+     * @param key Keyword name.
+     * @return If map has a value for keyword.
+     */
+    public boolean containsKey(String key) {
+        return find(key) >= 0;
+    } // end containsKey()
+
+    // Puts a value of the wrapper type of the map's values, ex. Integer for KWIntMap. Returns false if not of it.
+    abstract boolean putBoxed(String key, Object value);
+
+    // Appends the value at table index 'i' to 'sb'.
+    abstract void appendValue(StringBuilder sb, int i);
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                if (sb.length() > 1) {
+                    sb.append(", ");
+                }
+                sb.append(keys[i]).append('=');
+                appendValue(sb, i);
+            }
+        }
+        return sb.append('}').toString();
+    } // end toString()
+} // end class KWPrimitiveMap
@@ -0,0 +1,120 @@
+package kwargs;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Outcome of {@link KWArgs#tryKw}: either the kwargs Map, or the {@link KWError} that stopped parsing and the
+ * index of the offending key or value. Nothing is thrown, and no message is built unless {@link #message()} is called,
+ * so rejecting bad input is about as cheap as accepting good input.
+ * <pre>
+ * KWResult&lt;Integer&gt; result = KWArgs.tryKw(Integer.class, objs, "min", 0);
+ * if (!result.isOk()) {
+ *     return reject(result.error(), result.index());
+ * }
+ * Map&lt;String, Integer&gt; kwargs = result.map();
+ * </pre>
+ */
+public final class KWResult<V> {
+    private final Map<String, V> map;
+    private final KWError error;
+    private final int index;
+    private final Object item;
+    private final Class<?> type;
+
+    private KWResult(Map<String, V> map, KWError error, int index, Object item, Class<?> type) {
+        this.map = map;
+        this.error = error;
+        this.index = index;
+        this.item = item;
+        this.type = type;
+    }
+
+    /**
+     * @return If kwargs were parsed without error.
+     */
+    public boolean isOk() {
+        return error == null;
+    } // end isOk()
+
+    /**
+     * @return Map of kwargs over defaultargs, or null if parsing failed.
+     */
+    public Map<String, V> map() {
+        return map;
+    } // end map()
+
+    /**
+     * @return Error that stopped parsing, or null if parsing succeeded.
+     */
+    public KWError error() {
+        return error;
+    } // end error()
+
+    /**
+     * @return Index of the offending key or value, in kwargs (or defaultargs, for DEFAULT_* errors), or -1 if parsing succeeded.
+     */
+    public int index() {
+        return index;
+    } // end index()
+
+    /**
+     * @return Description of the error, the same as the kw* methods' exception message, or null if parsing succeeded.
+     */
+    public String message() {
+        return error == null ? null : error.message(item, type);
+    } // end message()
+
+    /**
+     * @return Map of kwargs over defaultargs.
+     * @throws KWFormatException If arguments were not in key, value format
+     * @throws KWTypeException If a key was not String, or a value not of type
+     */
+    public Map<String, V> orThrow() {
+        if (error != null) {
+            throw error.exception(index, item, type);
+        }
+        return map;
+    } // end orThrow()
+
+    @Override
+    public String toString() {
+        return error == null ? String.valueOf(map) : error + " at " + index + ": " + message();
+    } // end toString()
+
+    // Same checks, in the same order, as the kw* methods, but failures are returned instead of thrown.
+    @SuppressWarnings("unchecked")
+    static <V> KWResult<V> parse(KWConverter converter, Object[] kwargs, Object[] defaultargs) {
+        // Make sure the kwargs and defaultargs alternate between key,value,key,value,etc.
+        if (kwargs.length % 2 != 0) {
+            return failure(KWError.KWARGS_FORMAT, kwargs.length - 1, null, null);
+        }
+        if (defaultargs.length % 2 != 0) {
+            return failure(KWError.DEFAULTS_FORMAT, defaultargs.length - 1, null, null);
+        }
+        int index = KWCheck.firstInvalid(converter, defaultargs);
+        if (index >= 0) {
+            return failure(KWCheck.error(index, true), index, defaultargs[index], KWCheck.expected(converter, index));
+        }
+        index = KWCheck.firstInvalid(converter, kwargs);
+        if (index >= 0) {
+            return failure(KWCheck.error(index, false), index, kwargs[index], KWCheck.expected(converter, index));
+        }
+
+        // Set any default arguments in keyword map
+        Map<String, V> kwmap = new HashMap<>();
+        for (int i = 0; i < defaultargs.length; i = i + 2) {
+            kwmap.put((String) defaultargs[i], (V) KWCheck.convert(converter, defaultargs[i + 1]));
+        }
+
+        // Set keyword arguments in keyword map. Will overwrite any default arguments that were just set.
+        for (int i = 0; i < kwargs.length; i = i + 2) {
+            kwmap.put((String) kwargs[i], (V) KWCheck.convert(converter, kwargs[i + 1]));
+        }
+        return new KWResult<>(kwmap, null, -1, null, null);
+    } // end parse()
+
+    private static <V> KWResult<V> failure(KWError error, int index, Object item, Class<?> type) {
+        return new KWResult<>(null, error, index, item, type);
+    } // end failure()
+} // end class KWResult
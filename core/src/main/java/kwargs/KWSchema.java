@@ -0,0 +1,357 @@
+package kwargs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Precompiled set of keywords for one call site. Names, types and defaults are declared once,
+ * and each name gets a fixed slot (its declaration index). Parsing fills a flat array, and values
+ * are read back by slot, so reads never hash or compare strings.
+ * <pre>
+ * static final KWSchema RANGE = new KWSchema.Builder().key("num", Integer.class).key("min", Integer.class, 0).build();
+ * static final int NUM = RANGE.slot("num"), MIN = RANGE.slot("min");
+ * ...
+ * KWSchema.Args args = RANGE.parse(objs);
+ * int min = args.getInt(MIN);
+ * </pre>
+ */
+public final class KWSchema {
+    // Marks a slot without a default value, which must be passed in kwargs.
+    private static final Object REQUIRED = new Object();
+
+    // Above this many keywords, keys not found by reference are looked up in a HashMap instead of a linear scan.
+    private static final int LINEAR_SCAN_LIMIT = 8;
+
+    private final String[] names;
+    // Wrapper types of values, and whether null is allowed (only for keywords not declared with a primitive type).
+    private final Class<?>[] types;
+    private final boolean[] nullable;
+    private final Object[] defaults;
+    private final Map<String, Integer> slots;
+    // Slot of each name, for looking up keys that are not Strings yet (see KWParser).
+    private final KWIntMap index;
+
+    KWSchema(String[] names, Class<?>[] types, Object[] defaults) {
+        this.names = names;
+        this.types = new Class<?>[types.length];
+        this.nullable = new boolean[types.length];
+        for (int i = 0; i < types.length; i++) {
+            this.types[i] = wrap(types[i]);
+            this.nullable[i] = !types[i].isPrimitive();
+        }
+        this.defaults = defaults;
+        this.slots = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            slots.put(names[i], i);
+        }
+        this.index = KWIntMap.indexOf(names);
+    }
+
+    /**
+     * @param name Keyword name.
+     * @return Slot of keyword, to be passed to the getters of {@link Args}.
+     * @throws IllegalArgumentException If keyword is not part of this schema
+     */
+    public int slot(String name) {
+        Integer slot = slots.get(name);
+        if (slot == null) {
+            throw new IllegalArgumentException("Keyword '" + name + "' is not part of this schema.");
+        }
+        return slot;
+    } // end slot()
+
+    /**
+     * @return Number of keywords (and slots) in this schema.
+     */
+    public int size() {
+        return names.length;
+    } // end size()
+
+    /**
+     * @param slot Slot of keyword.
+     * @return Name of keyword in slot.
+     */
+    public String name(int slot) {
+        return names[slot];
+    } // end name()
+
+    /**
+     * @param slot Slot of keyword.
+     * @return Type of keyword in slot, as declared (ex. int.class, not Integer.class).
+     */
+    public Class<?> type(int slot) {
+        return nullable[slot] ? types[slot] : unwrap(types[slot]);
+    } // end type()
+
+    /**
+     * Fills the slots of this schema from kwargs. Keywords not passed take their default value.
+     *
+     * @param kwargs Object vararg, where args alternate between String (keyword) and Object (value).
+     * @return Values of kwargs, by slot.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws NoSuchElementException If a keyword without default value is not passed
+     * @throws IllegalArgumentException If key in key-value pair is not String, or not part of this schema
+     * @throws IllegalArgumentException If value in key-value pair is not of the keyword's type
+     */
+    public Args parse(Object... kwargs) {
+        Object[] values = fill(kwargs, null);
+
+        // Make sure every keyword without a default value was passed
+        for (int slot = 0; slot < values.length; slot++) {
+            if (values[slot] == REQUIRED) {
+                throw KWError.MISSING_KEY.exception(kwargs.length, names[slot], null);
+            }
+        }
+        return new Args(this, values);
+    } // end parse()
+
+    /**
+     * Values of kwargs over defaultargs over the schema's own defaults, by slot.
+     * Slots without any value are left {@link #isMissing missing}.
+     *
+     * @param defaultargs Defaults applied on top of the schema's own, or null.
+     */
+    Object[] fill(Object[] kwargs, KWDefaults defaultargs) {
+        // Make sure the kwargs alternate between key,value,key,value,etc.
+        if (kwargs.length % 2 != 0) {
+            throw KWError.KWARGS_FORMAT.exception(kwargs.length - 1, null, null);
+        }
+
+        Object[] values = defaults.clone();
+        if (defaultargs != null) {
+            for (int i = 0; i < defaultargs.names.length; i++) {
+                int position = defaultargs.positions[i];
+                int slot = indexOf(defaultargs.names[i], position - 1);
+                Object value = defaultargs.values[i];
+                if (!accepts(slot, value)) {
+                    throw KWError.DEFAULT_VALUE_TYPE.exception(position, value, types[slot]);
+                }
+                values[slot] = value;
+            }
+        }
+        for (int i = 0; i < kwargs.length; i = i + 2) {
+            int slot = indexOf(kwargs[i], i);
+            Object value = kwargs[i + 1];
+            check(slot, value, i + 1);
+            values[slot] = value;
+        }
+        return values;
+    } // end fill()
+
+    // If a value is allowed in slot.
+    private boolean accepts(int slot, Object value) {
+        return value == null ? nullable[slot] : types[slot].isInstance(value);
+    } // end accepts()
+
+    // Throws if a keyword argument's value, at index in kwargs, is not allowed in slot.
+    void check(int slot, Object value, int index) {
+        if (!accepts(slot, value)) {
+            throw KWError.VALUE_TYPE.exception(index, value, types[slot]);
+        }
+    } // end check()
+
+    // Copy of the schema's own defaults, by slot, with required slots left missing.
+    Object[] defaults() {
+        return defaults.clone();
+    } // end defaults()
+
+    // If a slot filled by fill() got no value.
+    static boolean isMissing(Object value) {
+        return value == REQUIRED;
+    } // end isMissing()
+
+    // Schema of keywords with the given types and no defaults, all required.
+    static KWSchema required(String[] names, Class<?>[] types) {
+        Object[] defaults = new Object[names.length];
+        Arrays.fill(defaults, REQUIRED);
+        return new KWSchema(names, types, defaults);
+    } // end required()
+
+    // Finds the slot of a key, at index in kwargs. Keys are almost always interned literals, so try reference equality first.
+    int indexOf(Object key, int index) {
+        if (!(key instanceof String)) {
+            throw KWError.KEY_TYPE.exception(index, key, String.class);
+        }
+        for (int i = 0; i < names.length; i++) {
+            if (names[i] == key) {
+                return i;
+            }
+        }
+        if (names.length <= LINEAR_SCAN_LIMIT) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(key)) {
+                    return i;
+                }
+            }
+        } else {
+            Integer slot = slots.get(key);
+            if (slot != null) {
+                return slot;
+            }
+        }
+        throw KWError.UNKNOWN_KEY.exception(index, key, null);
+    } // end indexOf()
+
+    // Finds the slot of the key in text[from, to), or -1 if it is not part of this schema.
+    int indexOf(CharSequence text, int from, int to) {
+        int i = index.find(text, from, to);
+        return i < 0 ? -1 : index.valueAt(i);
+    } // end indexOf()
+
+    // Type of values in slot, with primitive types wrapped.
+    Class<?> valueType(int slot) {
+        return types[slot];
+    } // end valueType()
+
+    /**
+     * Declares the keywords of a {@link KWSchema}. Slots are assigned in declaration order, starting at 0.
+     */
+    public static final class Builder {
+        private final List<String> names = new ArrayList<>();
+        private final List<Class<?>> types = new ArrayList<>();
+        private final List<Object> defaults = new ArrayList<>();
+
+        /**
+         * Declares a required keyword.
+         *
+         * @param name Keyword name.
+         * @param type Type of value. Primitive types are treated as their wrapper type, except that null is not allowed.
+         * @return This builder.
+         * @throws IllegalArgumentException If keyword was already declared
+         */
+        public Builder key(String name, Class<?> type) {
+            return declare(name, type, REQUIRED);
+        } // end key()
+
+        /**
+         * Declares an optional keyword.
+         *
+         * @param name Keyword name.
+         * @param type Type of value. Primitive types are treated as their wrapper type, except that null is not allowed.
+         * @param defaultValue Value used when keyword is not passed.
+         * @return This builder.
+         * @throws IllegalArgumentException If keyword was already declared, or default value is not of type
+         */
+        public Builder key(String name, Class<?> type, Object defaultValue) {
+            if (defaultValue == null ? type.isPrimitive() : !wrap(type).isInstance(defaultValue)) {
+                throw new IllegalArgumentException("Default argument with value '" + defaultValue + "' of type " + KWError.typeName(defaultValue) + " not allowed in kwargs of type " + wrap(type).getSimpleName());
+            }
+            return declare(name, type, defaultValue);
+        } // end key()
+
+        private Builder declare(String name, Class<?> type, Object defaultValue) {
+            if (names.contains(name)) {
+                throw new IllegalArgumentException("Keyword '" + name + "' is already declared.");
+            }
+            names.add(name.intern());
+            types.add(type);
+            defaults.add(defaultValue);
+            return this;
+        } // end declare()
+
+        /**
+         * @return Schema of all keywords declared so far.
+         */
+        public KWSchema build() {
+            return new KWSchema(names.toArray(new String[0]), types.toArray(new Class<?>[0]), defaults.toArray());
+        } // end build()
+    } // end class Builder
+
+    // Maps primitive types to their wrapper, since kwargs values are always boxed.
+    static Class<?> wrap(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        } else if (type == int.class) {
+            return Integer.class;
+        } else if (type == long.class) {
+            return Long.class;
+        } else if (type == double.class) {
+            return Double.class;
+        } else if (type == float.class) {
+            return Float.class;
+        } else if (type == short.class) {
+            return Short.class;
+        } else if (type == byte.class) {
+            return Byte.class;
+        } else if (type == boolean.class) {
+            return Boolean.class;
+        } else if (type == char.class) {
+            return Character.class;
+        }
+        throw new IllegalArgumentException("Type '" + type + "' not allowed in kwargs.");
+    } // end wrap()
+
+    // Maps a wrapper type back to its primitive type.
+    static Class<?> unwrap(Class<?> type) {
+        for (Class<?> primitive : new Class<?>[]{int.class, long.class, double.class, float.class, short.class, byte.class, boolean.class, char.class}) {
+            if (wrap(primitive) == type) {
+                return primitive;
+            }
+        }
+        return type;
+    } // end unwrap()
+
+    /**
+     * Values of one parsed call, read by slot.
+     */
+    public static final class Args {
+        private final KWSchema schema;
+        private final Object[] values;
+
+        Args(KWSchema schema, Object[] values) {
+            this.schema = schema;
+            this.values = values;
+        }
+
+        /**
+         * @return Schema these values were parsed with.
+         */
+        public KWSchema schema() {
+            return schema;
+        } // end schema()
+
+        public Object get(int slot) {
+            return values[slot];
+        } // end get()
+
+        public String getString(int slot) {
+            return (String) values[slot];
+        } // end getString()
+
+        public int getInt(int slot) {
+            return (Integer) values[slot];
+        } // end getInt()
+
+        public long getLong(int slot) {
+            return (Long) values[slot];
+        } // end getLong()
+
+        public double getDouble(int slot) {
+            return (Double) values[slot];
+        } // end getDouble()
+
+        public float getFloat(int slot) {
+            return (Float) values[slot];
+        } // end getFloat()
+
+        public short getShort(int slot) {
+            return (Short) values[slot];
+        } // end getShort()
+
+        public byte getByte(int slot) {
+            return (Byte) values[slot];
+        } // end getByte()
+
+        public boolean getBoolean(int slot) {
+            return (Boolean) values[slot];
+        } // end getBoolean()
+
+        public char getChar(int slot) {
+            return (Character) values[slot];
+        } // end getChar()
+    } // end class Args
+} // end class KWSchema
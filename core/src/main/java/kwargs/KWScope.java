@@ -0,0 +1,315 @@
+package kwargs;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Read-only kwargs Map over storage borrowed from a pool, returned by {@link KWArgs#scope}, for kwargs that are dead
+ * once the method returns. Closing the scope clears the storage and hands it back for the next call, so in steady
+ * state parsing allocates nothing, whatever the number of pairs: the scope returned is the handle of the pooled
+ * storage itself, lent again on each borrow.
+ * <pre>
+ * try (KWScope kwmap = KWArgs.scope(kwargs, "min", 0, "max", 100)) {
+ *     int min = (Integer) kwmap.get("min");
+ * }
+ * </pre>
+ * Pooled storage remembers the key layouts of its last few calls, so a call with the layout of one of them only
+ * copies values, without key checks or hashing, like kw(). These layouts are kept by the storage itself, apart from
+ * the cache of kw(). Storage that keeps seeing new layouts stops remembering them for a while, and hashes keys into
+ * a table instead, which allocates nothing either.
+ * The pool is a small array of storage shared by all threads, claimed and returned with atomic swaps, so it
+ * works the same from platform or virtual threads and holds no per-thread state. If all pooled storage is in use,
+ * new storage is made, and dropped on close if the pool is full.
+ * A scope belongs to one thread between scope() and close(), and must not be used after close().
+ * Each borrow stamps the scope with the generation of its storage, and close() moves the storage to the next
+ * generation. So a closed scope throws IllegalStateException, and closing it again does nothing, until its
+ * storage is borrowed again: from then on, the same object is the scope of that later borrower, so a reference
+ * must not be kept past close().
+ */
+public final class KWScope extends AbstractMap<String, Object> implements AutoCloseable {
+    // Pooled storage, a power of two. Empty slots are null.
+    private static final AtomicReferenceArray<Storage> POOL =
+            new AtomicReferenceArray<>(Integer.highestOneBit(Math.max(8, Runtime.getRuntime().availableProcessors() * 4) - 1) << 1);
+    // Slots tried before giving up on the pool.
+    private static final int PROBES = 4;
+    private static final int MIN_CAPACITY = 16;
+
+    private final Storage storage;
+    // Generation of storage when last borrowed. The scope is open while they are equal.
+    private int generation;
+
+    private KWScope(Storage storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * Borrows storage, fills it, and stamps its scope open.
+     *
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If key in key-value pair is not String
+     */
+    static KWScope of(Object[] kwargs, Object[] defaultargs) {
+        KWCheck.checkFormat(kwargs, defaultargs);
+        Storage storage = acquire();
+        if (!storage.fill(kwargs, defaultargs)) {
+            release(storage);
+            KWCheck.checkPairs(null, kwargs, defaultargs);
+        }
+        KWScope scope = storage.scope;
+        scope.generation = storage.generation;
+        return scope;
+    } // end of()
+
+    private static Storage acquire() {
+        int start = Thread.currentThread().hashCode();
+        for (int i = 0; i < PROBES; i++) {
+            int slot = (start + i) & (POOL.length() - 1);
+            if (POOL.getPlain(slot) != null) {
+                Storage storage = POOL.getAndSet(slot, null);
+                if (storage != null) {
+                    return storage;
+                }
+            }
+        }
+        return new Storage();
+    } // end acquire()
+
+    private static void release(Storage storage) {
+        int start = Thread.currentThread().hashCode();
+        for (int i = 0; i < PROBES; i++) {
+            int slot = (start + i) & (POOL.length() - 1);
+            if (POOL.getPlain(slot) == null && POOL.compareAndSet(slot, null, storage)) {
+                return;
+            }
+        }
+    } // end release()
+
+    // Storage of this scope, if still open.
+    private Storage checkOpen() {
+        Storage storage = this.storage;
+        if (storage.generation != generation) {
+            throw new IllegalStateException("KWScope used after close().");
+        }
+        return storage;
+    } // end checkOpen()
+
+    @Override
+    public int size() {
+        return checkOpen().size;
+    } // end size()
+
+    @Override
+    public Object get(Object key) {
+        return getOrDefault(key, null);
+    } // end get()
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        Storage storage = checkOpen();
+        if (storage.layout != null) {
+            int slot = storage.layout.slotOf(key);
+            return slot < 0 ? defaultValue : storage.values[slot];
+        }
+        if (!(key instanceof String)) {
+            return defaultValue;
+        }
+        int slot = storage.probe(key);
+        return storage.keys[slot] == null ? defaultValue : storage.values[slot];
+    } // end getOrDefault()
+
+    @Override
+    public boolean containsKey(Object key) {
+        Storage storage = checkOpen();
+        if (storage.layout != null) {
+            return storage.layout.slotOf(key) >= 0;
+        }
+        return key instanceof String && storage.keys[storage.probe(key)] != null;
+    } // end containsKey()
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        checkOpen();
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<Entry<String, Object>>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < checkOpen().size;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        if (storage.layout != null) {
+                            return new SimpleImmutableEntry<>(storage.layout.names[next], storage.values[next++]);
+                        }
+                        int slot = storage.filled[next++];
+                        return new SimpleImmutableEntry<>(storage.keys[slot], storage.values[slot]);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return KWScope.this.size();
+            }
+        };
+    } // end entrySet()
+
+    /**
+     * Clears the storage and returns it to the pool. Does nothing if already closed.
+     */
+    @Override
+    public void close() {
+        if (storage.generation != generation) {
+            return;
+        }
+        storage.clear();
+        release(storage);
+    } // end close()
+
+    /**
+     * Table of one borrow at a time, pooled between borrows with its scope, and the key layouts of its last few calls.
+     */
+    private static final class Storage {
+        // Lent with this storage on every borrow, so borrowing allocates nothing.
+        private final KWScope scope = new KWScope(this);
+        // Layout of the current call, if remembered: values are then by index in its names, and keys is unused.
+        private KWCallSiteCache.Layout layout;
+        // Otherwise an open-addressing table: keys, and values at the same slot. Null key marks an empty slot.
+        private String[] keys = new String[MIN_CAPACITY];
+        private Object[] values = new Object[MIN_CAPACITY];
+        // Filled slots, in the order filled, so clearing and iterating cost O(size) rather than O(capacity).
+        private int[] filled = new int[MIN_CAPACITY];
+        private int size;
+        // Borrows closed so far. May wrap around.
+        private int generation;
+
+        // Layouts of recent calls, newest first, how many were evicted to make room,
+        // and calls since too many were, as in KWCallSiteCache.
+        private final KWCallSiteCache.Layout[] layouts = new KWCallSiteCache.Layout[KWCallSiteCache.WAYS];
+        private int evictions;
+        private int bypassed;
+
+        // Fills the table with kwargs over defaultargs. Returns false, and stays empty, if a key is not a String.
+        private boolean fill(Object[] kwargs, Object[] defaultargs) {
+            KWCallSiteCache.Layout layout = find(kwargs, defaultargs);
+            if (layout == null) {
+                layout = remember(kwargs, defaultargs);
+            }
+            if (layout != null) {
+                reserve(layout.names.length);
+                this.layout = layout;
+                size = layout.names.length;
+                layout.fill(kwargs, defaultargs, values);
+                return true;
+            }
+            reserve((kwargs.length + defaultargs.length) / 2);
+            if (putAll(defaultargs) && putAll(kwargs)) {
+                return true;
+            }
+            clear();
+            return false;
+        } // end fill()
+
+        // Remembered layout matching the call, by reference first, then by value for non-interned keys. Null if none.
+        private KWCallSiteCache.Layout find(Object[] kwargs, Object[] defaultargs) {
+            for (KWCallSiteCache.Layout layout : layouts) {
+                if (layout != null && layout.sameKeys(kwargs, defaultargs)) {
+                    return layout;
+                }
+            }
+            for (KWCallSiteCache.Layout layout : layouts) {
+                if (layout != null && layout.equalKeys(kwargs, defaultargs)) {
+                    return layout;
+                }
+            }
+            return null;
+        } // end find()
+
+        // Remembers the layout of the call, evicting the oldest one if full. Null if layouts are not remembered
+        // for now, or a key is not a String.
+        private KWCallSiteCache.Layout remember(Object[] kwargs, Object[] defaultargs) {
+            if (evictions > KWCallSiteCache.MAX_EVICTIONS) {
+                if (++bypassed >= KWCallSiteCache.RETRY_AFTER) {
+                    Arrays.fill(layouts, null);
+                    evictions = 0;
+                    bypassed = 0;
+                }
+                return null;
+            }
+            KWCallSiteCache.Layout layout = KWCallSiteCache.Layout.of(kwargs, defaultargs);
+            if (layout == null) {
+                return null;
+            }
+            if (layouts[layouts.length - 1] != null) {
+                evictions++;
+            }
+            System.arraycopy(layouts, 0, layouts, 1, layouts.length - 1);
+            layouts[0] = layout;
+            return layout;
+        } // end remember()
+
+        // Grows the table, if needed, to hold 'pairs' pairs at most half full.
+        private void reserve(int pairs) {
+            if (pairs * 2 > keys.length) {
+                int capacity = Integer.highestOneBit(pairs * 2 - 1) << 1;
+                keys = new String[capacity];
+                values = new Object[capacity];
+                filled = new int[capacity];
+            }
+        } // end reserve()
+
+        // Adds pairs. Returns false, leaving the pairs before it added, if a key is not a String.
+        private boolean putAll(Object[] kwargs) {
+            for (int i = 0; i < kwargs.length; i = i + 2) {
+                if (!(kwargs[i] instanceof String)) {
+                    return false;
+                }
+                int slot = probe(kwargs[i]);
+                if (keys[slot] == null) {
+                    keys[slot] = (String) kwargs[i];
+                    filled[size++] = slot;
+                }
+                values[slot] = kwargs[i + 1];
+            }
+            return true;
+        } // end putAll()
+
+        // Slot of key, or of the empty slot where it would go.
+        private int probe(Object key) {
+            int mask = keys.length - 1;
+            int h = key.hashCode();
+            int slot = (h ^ (h >>> 16)) & mask;
+            while (keys[slot] != null && !keys[slot].equals(key)) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        } // end probe()
+
+        // Ends the current borrow: empties the table and moves to the next generation.
+        private void clear() {
+            generation++;
+            if (layout != null) {
+                Arrays.fill(values, 0, size, null);
+                layout = null;
+            } else {
+                for (int i = 0; i < size; i++) {
+                    keys[filled[i]] = null;
+                    values[filled[i]] = null;
+                }
+            }
+            size = 0;
+        } // end clear()
+    } // end class Storage
+} // end class KWScope
@@ -0,0 +1,152 @@
+package kwargs;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Map returned by {@link KWArgs#kw(Object[], Object...)} on an inline cache hit.
+ * Keys come from the cached {@link KWCallSiteCache.Layout}, shared by every call with that layout,
+ * so each map only owns its values. Fully mutable like the HashMap kw() used to return:
+ * replacing the value of an existing keyword is done in place, while adding or removing a keyword
+ * first copies the map into a HashMap that handles every operation from then on.
+ */
+final class KWShapedMap extends AbstractMap<String, Object> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final KWCallSiteCache.Layout layout;
+    private final Object[] values;
+    private HashMap<String, Object> delegate;
+
+    KWShapedMap(KWCallSiteCache.Layout layout, Object[] values) {
+        this.layout = layout;
+        this.values = values;
+    }
+
+    // Switches to a HashMap copy, once the keywords no longer match the layout.
+    private HashMap<String, Object> deoptimize() {
+        if (delegate == null) {
+            delegate = new HashMap<>();
+            for (int i = 0; i < values.length; i++) {
+                delegate.put(layout.names[i], values[i]);
+            }
+        }
+        return delegate;
+    } // end deoptimize()
+
+    @Override
+    public Object get(Object key) {
+        if (delegate != null) {
+            return delegate.get(key);
+        }
+        int slot = layout.slotOf(key);
+        return slot < 0 ? null : values[slot];
+    } // end get()
+
+    @Override
+    public boolean containsKey(Object key) {
+        return delegate != null ? delegate.containsKey(key) : layout.slotOf(key) >= 0;
+    } // end containsKey()
+
+    @Override
+    public int size() {
+        return delegate != null ? delegate.size() : values.length;
+    } // end size()
+
+    @Override
+    public Object put(String key, Object value) {
+        if (delegate == null) {
+            int slot = layout.slotOf(key);
+            if (slot >= 0) {
+                Object old = values[slot];
+                values[slot] = value;
+                return old;
+            }
+        }
+        return deoptimize().put(key, value);
+    } // end put()
+
+    @Override
+    public Object remove(Object key) {
+        if (delegate == null && layout.slotOf(key) < 0) {
+            return null;
+        }
+        return deoptimize().remove(key);
+    } // end remove()
+
+    @Override
+    public void clear() {
+        deoptimize().clear();
+    } // end clear()
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (delegate != null) {
+            return delegate.entrySet();
+        }
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                if (delegate != null) {
+                    return delegate.entrySet().iterator();
+                }
+                return new Iterator<Entry<String, Object>>() {
+                    private int next;
+                    private int last = -1;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < values.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        last = next++;
+                        return new SlotEntry(last);
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (last < 0) {
+                            throw new IllegalStateException();
+                        }
+                        KWShapedMap.this.remove(layout.names[last]);
+                        last = -1;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return KWShapedMap.this.size();
+            }
+        };
+    } // end entrySet()
+
+    // Entry that writes through to the map, like a HashMap entry writes through to its node.
+    private final class SlotEntry extends SimpleEntry<String, Object> {
+        private static final long serialVersionUID = 1L;
+
+        SlotEntry(int slot) {
+            super(layout.names[slot], KWShapedMap.this.get(layout.names[slot]));
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            super.setValue(value);
+            return KWShapedMap.this.put(getKey(), value);
+        }
+    } // end class SlotEntry
+
+    // Serialized as the HashMap kw() used to return, so readers don't depend on this class.
+    private Object writeReplace() {
+        return new HashMap<>(this);
+    } // end writeReplace()
+} // end class KWShapedMap
@@ -0,0 +1,63 @@
+package kwargs;
+
+/**
+ * Thrown when a key in kwargs or defaultargs is not a String (or not an allowed keyword, or passed twice),
+ * or a value is not of the Map's value type.
+ * Its message is only built if asked for, and it has no stack trace unless the 'kwargs.stackTraces'
+ * system property is true, so failing is cheap.
+ */
+public final class KWTypeException extends IllegalArgumentException {
+    private static final long serialVersionUID = 1L;
+
+    private final KWError error;
+    private final int index;
+    private final transient Object item;
+    private final Class<?> type;
+    // Index of the record in a batch, or -1.
+    private int record = -1;
+
+    KWTypeException(KWError error, int index, Object item, Class<?> type) {
+        this.error = error;
+        this.index = index;
+        this.item = item;
+        this.type = type;
+    }
+
+    /**
+     * @return What was wrong: a key or value type error, in kwargs or defaultargs, or an unknown or repeated keyword.
+     */
+    public KWError error() {
+        return error;
+    } // end error()
+
+    /**
+     * @return Index of the offending key or value, in kwargs (or defaultargs, for DEFAULT_* errors), or its offset in parsed text.
+     */
+    public int index() {
+        return index;
+    } // end index()
+
+    /**
+     * @return Index of the offending record, for {@link KWBatch#parse}, or -1.
+     */
+    public int record() {
+        return record;
+    } // end record()
+
+    // Marks this as the error of a record in a batch, to be rethrown.
+    KWTypeException inRecord(int record) {
+        this.record = record;
+        return this;
+    } // end inRecord()
+
+    @Override
+    public String getMessage() {
+        String message = error.message(item, type);
+        return record < 0 ? message : "Record " + record + ": " + message;
+    } // end getMessage()
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return KWError.STACK_TRACES ? super.fillInStackTrace() : this;
+    } // end fillInStackTrace()
+} // end class KWTypeException
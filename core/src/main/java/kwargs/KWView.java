@@ -0,0 +1,149 @@
+package kwargs;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Read-only Map backed directly by the kwargs and defaultargs arrays, returned by {@link KWArgs#kwView}.
+ * Nothing is copied: a lookup scans kwargs, then defaultargs, from the end (so later pairs win, same as kw()).
+ * Past {@link #INDEX_THRESHOLD} pairs, the constructor also builds a hashed index of positions instead.
+ * The arrays must not be modified while the view is in use. Values that widen to the view's type are widened as read.
+ */
+final class KWView<V> extends AbstractMap<String, V> {
+    // Above this many pairs (kwargs and defaultargs together), lookups go through a hashed index.
+    static final int INDEX_THRESHOLD = 8;
+
+    // Widens values as read, or null for any type
+    private final KWConverter converter;
+    private final Object[] kwargs;
+    private final Object[] defaultargs;
+    // Keyword to position of its value in kwargs, or kwargs.length + position in defaultargs. Null below threshold.
+    private final KWIntMap index;
+    private int size = -1;
+
+    /**
+     * @param converter Converter every value must pass, or null for any type.
+     * @throws NoSuchElementException If arguments are not in key, value format
+     * @throws IllegalArgumentException If key in key-value pair is not String, or value is not of type
+     */
+    KWView(KWConverter converter, Object[] kwargs, Object[] defaultargs) {
+        KWCheck.check(converter, kwargs, defaultargs);
+        this.converter = converter;
+        this.kwargs = kwargs;
+        this.defaultargs = defaultargs;
+        this.index = (kwargs.length + defaultargs.length) / 2 > INDEX_THRESHOLD ? index(kwargs, defaultargs) : null;
+    }
+
+    // Indexes the position of each keyword's value. Defaults go in first, so keyword arguments overwrite them.
+    private static KWIntMap index(Object[] kwargs, Object[] defaultargs) {
+        KWIntMap index = new KWIntMap((kwargs.length + defaultargs.length) / 2);
+        for (int i = 0; i < defaultargs.length; i = i + 2) {
+            index.put((String) defaultargs[i], kwargs.length + i + 1);
+        }
+        for (int i = 0; i < kwargs.length; i = i + 2) {
+            index.put((String) kwargs[i], i + 1);
+        }
+        return index;
+    } // end index()
+
+    // Finds the position of the value for key (see 'index'), or -1 if absent.
+    private int position(Object key) {
+        if (index != null) {
+            return key instanceof String ? index.getOrDefault((String) key, -1) : -1;
+        }
+        for (int i = kwargs.length - 2; i >= 0; i = i - 2) {
+            if (kwargs[i] == key || kwargs[i].equals(key)) {
+                return i + 1;
+            }
+        }
+        for (int i = defaultargs.length - 2; i >= 0; i = i - 2) {
+            if (defaultargs[i] == key || defaultargs[i].equals(key)) {
+                return kwargs.length + i + 1;
+            }
+        }
+        return -1;
+    } // end position()
+
+    private Object at(int position) {
+        return position < kwargs.length ? kwargs[position] : defaultargs[position - kwargs.length];
+    } // end at()
+
+    // Value at a position, as the view's type.
+    @SuppressWarnings("unchecked")
+    private V value(int position) {
+        return (V) KWCheck.convert(converter, at(position));
+    } // end value()
+
+    @Override
+    public V get(Object key) {
+        int position = position(key);
+        return position < 0 ? null : value(position);
+    } // end get()
+
+    @Override
+    public boolean containsKey(Object key) {
+        return position(key) >= 0;
+    } // end containsKey()
+
+    @Override
+    public int size() {
+        if (size < 0) {
+            int count = 0;
+            for (int p = 1; p < kwargs.length + defaultargs.length; p = p + 2) {
+                if (isVisible(p)) {
+                    count++;
+                }
+            }
+            size = count;
+        }
+        return size;
+    } // end size()
+
+    // A pair is visible unless its key is overridden by a later pair, or by kwargs if it is a default.
+    private boolean isVisible(int position) {
+        return position(at(position - 1)) == position;
+    } // end isVisible()
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+        return new AbstractSet<Entry<String, V>>() {
+            @Override
+            public Iterator<Entry<String, V>> iterator() {
+                return new Iterator<Entry<String, V>>() {
+                    private int next = advance(1);
+
+                    private int advance(int p) {
+                        while (p < kwargs.length + defaultargs.length && !isVisible(p)) {
+                            p = p + 2;
+                        }
+                        return p;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < kwargs.length + defaultargs.length;
+                    }
+
+                    @Override
+                    public Entry<String, V> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<String, V> entry = new SimpleImmutableEntry<>((String) at(next - 1), value(next));
+                        next = advance(next + 2);
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return KWView.this.size();
+            }
+        };
+    } // end entrySet()
+} // end class KWView
@@ -0,0 +1,118 @@
+package kwargs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Records parsed by {@link KWBatch} into columns: defaults, bad records, and parallel against sequential parsing.
+ */
+class KWBatchTest {
+    private static final KWSchema SCHEMA = new KWSchema.Builder()
+            .key("host", String.class)
+            .key("port", int.class, 80)
+            .key("tag", String.class, null)
+            .key("weight", double.class, 1.0)
+            .build();
+    private static final int HOST = SCHEMA.slot("host"), PORT = SCHEMA.slot("port"), TAG = SCHEMA.slot("tag"), WEIGHT = SCHEMA.slot("weight");
+
+    @Test
+    void fillsAbsentKeysWithDefaults() {
+        List<Object[]> records = Arrays.asList(
+                new Object[]{"host", "a"},
+                new Object[]{"host", "b", "port", 8080, "tag", "x"},
+                new Object[]{"weight", 0.5, "host", "c"});
+        KWColumns columns = KWBatch.parse(SCHEMA, records);
+        assertEquals(3, columns.rows());
+        assertArrayEquals(new Object[]{"a", "b", "c"}, columns.objects(HOST));
+        assertArrayEquals(new int[]{80, 8080, 80}, columns.ints(PORT));
+        assertArrayEquals(new Object[]{null, "x", null}, columns.objects(TAG));
+        assertArrayEquals(new double[]{1.0, 1.0, 0.5}, columns.doubles(WEIGHT));
+
+        KWColumns overridden = KWBatch.parse(SCHEMA, records, KWDefaults.of("port", 443, "tag", "t"));
+        assertArrayEquals(new int[]{443, 8080, 443}, overridden.ints(PORT));
+        assertArrayEquals(new Object[]{"t", "x", "t"}, overridden.objects(TAG));
+        assertArrayEquals(new int[]{443, 8080, 443}, KWBatch.parse(SCHEMA, records.stream(), KWDefaults.of("port", 443)).ints(PORT));
+    }
+
+    @Test
+    void reportsTheRecordThatFailed() {
+        List<Object[]> records = Arrays.asList(
+                new Object[]{"host", "a"},
+                new Object[]{"port", 1},
+                new Object[]{"host", "c", "port", "80"});
+        KWFormatException missing = assertThrows(KWFormatException.class, () -> KWBatch.parse(SCHEMA, records));
+        assertEquals(KWError.MISSING_KEY, missing.error());
+        assertEquals(1, missing.record());
+        assertEquals(2, missing.index());
+        assertEquals("Record 1: Keyword 'host' is required.", missing.getMessage());
+
+        KWTypeException type = assertThrows(KWTypeException.class, () -> KWBatch.parse(SCHEMA, records.subList(2, 3)));
+        assertEquals(KWError.VALUE_TYPE, type.error());
+        assertEquals(0, type.record());
+        assertEquals(3, type.index());
+        assertEquals("Record 0: Value '80' of type String not allowed in kwargs of type Integer", type.getMessage());
+
+        KWFormatException format = assertThrows(KWFormatException.class, () -> KWBatch.parse(SCHEMA, List.<Object[]>of(new Object[]{"host"})));
+        assertEquals("Record 0: KWargs are not in key, value format.", format.getMessage());
+        // Not in a batch, the same errors carry no record
+        assertEquals(-1, assertThrows(KWFormatException.class, () -> SCHEMA.parse("port", 1)).record());
+    }
+
+    @Test
+    void parallelMatchesSequential() {
+        List<Object[]> records = records(100_000);
+        KWColumns parallel = KWBatch.parse(SCHEMA, records);
+        KWColumns linked = KWBatch.parse(SCHEMA, new LinkedList<>(records));
+        KWColumns sized = KWBatch.parse(SCHEMA, records.stream());
+        // Of unknown size, so read in chunks that grow
+        KWColumns unsized = KWBatch.parse(SCHEMA, records.stream().filter(record -> true));
+        for (KWColumns columns : new KWColumns[]{parallel, linked, sized, unsized}) {
+            assertEquals(records.size(), columns.rows());
+            for (int row = 0; row < records.size(); row++) {
+                KWSchema.Args args = SCHEMA.parse(records.get(row));
+                assertEquals(args.get(HOST), columns.objects(HOST)[row]);
+                assertEquals(args.getInt(PORT), columns.ints(PORT)[row]);
+                assertEquals(args.get(TAG), columns.objects(TAG)[row]);
+                assertEquals(args.getDouble(WEIGHT), columns.doubles(WEIGHT)[row]);
+            }
+        }
+    }
+
+    @Test
+    void parallelFailureNamesItsRecord() {
+        List<Object[]> records = records(100_000);
+        records.set(77_777, new Object[]{"host", "h", "weight", 1});
+        KWTypeException e = assertThrows(KWTypeException.class, () -> KWBatch.parse(SCHEMA, records));
+        assertEquals(77_777, e.record());
+        assertEquals(77_777, assertThrows(KWTypeException.class, () -> KWBatch.parse(SCHEMA, records.stream().filter(record -> true))).record());
+    }
+
+    @Test
+    void emptyBatchHasNoRows() {
+        assertEquals(0, KWBatch.parse(SCHEMA, new ArrayList<>()).rows());
+        assertEquals(0, KWBatch.parse(SCHEMA, IntStream.range(0, 0).mapToObj(i -> new Object[0])).rows());
+    }
+
+    // Records passing a varying subset of keywords.
+    private static List<Object[]> records(int n) {
+        List<Object[]> records = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            switch (i % 4) {
+                case 0: records.add(new Object[]{"host", "h" + i}); break;
+                case 1: records.add(new Object[]{"port", i, "host", "h" + i}); break;
+                case 2: records.add(new Object[]{"host", "h" + i, "tag", "t" + i, "weight", i / 2.0}); break;
+                default: records.add(new Object[]{"tag", null, "host", "h" + i, "port", -i}); break;
+            }
+        }
+        return records;
+    } // end records()
+} // end class KWBatchTest
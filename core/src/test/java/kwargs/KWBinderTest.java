@@ -0,0 +1,124 @@
+package kwargs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Records and POJOs built through {@link KWArgs#bind}: which keywords they take, defaults, and the errors
+ * of bad calls, which must read as those of the kw* methods.
+ */
+class KWBinderTest {
+    record Point(int x, int y) {
+    }
+
+    static class Base {
+        int hidden = 1;
+        String label = "base";
+    } // end class Base
+
+    static class Settings extends Base {
+        static int instances;
+        final int version = 1;
+        transient Object cache;
+        int hidden = 2;
+        String name;
+        double ratio = 0.5;
+    } // end class Settings
+
+    @Test
+    void bindsRecords() {
+        assertEquals(new Point(1, 2), KWArgs.bind(Point.class, "x", 1, "y", 2));
+        assertEquals(new Point(1, 2), KWArgs.bind(Point.class, "y", 2, "x", 1));
+    } // end bindsRecords()
+
+    @Test
+    void bindsPojosKeepingFieldsNotPassed() {
+        Settings settings = KWArgs.bind(Settings.class, "name", "fast", "label", "top");
+        assertEquals("fast", settings.name);
+        assertEquals("top", settings.label);
+        assertEquals(0.5, settings.ratio);
+        assertEquals(2, settings.hidden);
+    } // end bindsPojosKeepingFieldsNotPassed()
+
+    @Test
+    void skipsStaticFinalAndTransientFields() {
+        for (String field : new String[]{"instances", "version", "cache"}) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> KWArgs.bind(Settings.class, field, 3));
+            assertEquals("Keyword '" + field + "' is not allowed here.", e.getMessage());
+        }
+        assertEquals(0, Settings.instances);
+    } // end skipsStaticFinalAndTransientFields()
+
+    @Test
+    void setsOnlyTheFieldHidingAnother() {
+        Settings settings = KWArgs.bind(Settings.class, "hidden", 5);
+        assertEquals(5, settings.hidden);
+        assertEquals(1, ((Base) settings).hidden);
+    } // end setsOnlyTheFieldHidingAnother()
+
+    @Test
+    void rejectsUnknownKeys() {
+        KWTypeException e = assertThrows(KWTypeException.class, () -> KWArgs.bind(Point.class, "x", 1, "y", 2, "z", 3));
+        assertEquals("Keyword 'z' is not allowed here.", e.getMessage());
+        assertEquals(KWError.UNKNOWN_KEY, e.error());
+        assertEquals(4, e.index());
+    } // end rejectsUnknownKeys()
+
+    @Test
+    void rejectsKeysAndValuesLikeKw() {
+        assertEquals("Key must be of type String, not 'Integer'.",
+                message(() -> KWArgs.bind(Point.class, 1, 1)));
+        assertEquals(message(() -> KWArgs.kwInteger(new Object[]{"x", "1"})),
+                message(() -> KWArgs.bind(Point.class, "x", "1", "y", 2)));
+        assertEquals("Value '1' of type String not allowed in kwargs of type Integer",
+                message(() -> KWArgs.bind(Point.class, "x", "1", "y", 2)));
+        // The one kw* message with a period, for String values
+        assertEquals(message(() -> KWArgs.kwString(new Object[]{"name", 1})),
+                message(() -> KWArgs.bind(Settings.class, "name", 1)));
+        assertEquals("Value '1' of type Integer not allowed in kwargs of type String.",
+                message(() -> KWArgs.bind(Settings.class, "name", 1)));
+        // Primitive components take no null, unlike the kw* Maps
+        assertEquals("Value 'null' of type null not allowed in kwargs of type Integer",
+                message(() -> KWArgs.bind(Point.class, "x", null, "y", 2)));
+        assertNull(KWArgs.bind(Settings.class, "name", null).name);
+    } // end rejectsKeysAndValuesLikeKw()
+
+    @Test
+    void requiresEveryRecordComponent() {
+        KWFormatException e = assertThrows(KWFormatException.class, () -> KWArgs.bind(Point.class, "x", 1));
+        assertEquals("Keyword 'y' is required.", e.getMessage());
+        assertEquals(KWError.MISSING_KEY, e.error());
+        assertEquals(2, e.index());
+        NoSuchElementException format = assertThrows(NoSuchElementException.class, () -> KWArgs.bind(Point.class, "x", 1, "y"));
+        assertEquals("KWargs are not in key, value format.", format.getMessage());
+    } // end requiresEveryRecordComponent()
+
+    @Test
+    void appliesDefaultsToRecords() {
+        KWDefaults defaults = KWDefaults.of("y", 5);
+        assertEquals(new Point(1, 5), KWArgs.bind(Point.class, new Object[]{"x", 1}, defaults));
+        assertEquals(new Point(1, 2), KWArgs.bind(Point.class, new Object[]{"x", 1, "y", 2}, defaults));
+        NoSuchElementException e = assertThrows(NoSuchElementException.class, () -> KWArgs.bind(Point.class, new Object[0], defaults));
+        assertEquals("Keyword 'x' is required.", e.getMessage());
+        assertEquals("Default argument with value '5' of type String not allowed in kwargs of type Integer",
+                message(() -> KWArgs.bind(Point.class, new Object[]{"x", 1}, KWDefaults.of("y", "5"))));
+    } // end appliesDefaultsToRecords()
+
+    @Test
+    void appliesDefaultsToPojos() {
+        KWDefaults defaults = KWDefaults.of("name", "default", "ratio", 2.0);
+        Settings settings = KWArgs.bind(Settings.class, new Object[]{"ratio", 3.0}, defaults);
+        assertEquals("default", settings.name);
+        assertEquals(3.0, settings.ratio);
+        assertEquals("base", settings.label);
+    } // end appliesDefaultsToPojos()
+
+    private static String message(Runnable call) {
+        return assertThrows(RuntimeException.class, call::run).getMessage();
+    } // end message()
+} // end class KWBinderTest
@@ -0,0 +1,173 @@
+package kwargs;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Round trips through {@link KWBundleWriter} and {@link KWBundleReader}, and corrupt bundles.
+ */
+class KWBundleTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripsEveryType() throws IOException {
+        Object[] first = {"s", "héllo", "d", 1.5, "i", -7, "t", true, "f", false, "c", 'x',
+                "b", (byte) -1, "h", (short) 300, "l", Long.MIN_VALUE, "x", 2.5f, "n", null};
+        Object[] second = {"i", Integer.MAX_VALUE, "new", ""};
+        KWBundleReader reader = KWBundleReader.of(ByteBuffer.wrap(bundle(first, second)));
+
+        assertTrue(reader.next());
+        assertArrayEquals(first, reader.toKwargs());
+        assertEquals(-7, reader.getInt(reader.indexOf("i")));
+        assertEquals(Long.MIN_VALUE, reader.getLong(reader.indexOf("l")));
+        assertEquals(Integer.class, reader.type(reader.indexOf("i")));
+        assertTrue(reader.next());
+        assertArrayEquals(second, reader.toKwargs());
+        assertEquals(-1, reader.indexOf("s"));
+        assertFalse(reader.next());
+    }
+
+    @Test
+    void roundTripsMapsThroughFile() throws IOException {
+        Path path = dir.resolve("records.kwb");
+        Map<String, Object> kwmap = new LinkedHashMap<>();
+        kwmap.put("host", "example.org");
+        kwmap.put("port", 8080);
+        try (KWBundleWriter writer = KWBundleWriter.create(path)) {
+            for (int i = 0; i < 1000; i++) {
+                kwmap.put("port", i);
+                writer.write(kwmap);
+            }
+        }
+        try (KWBundleReader reader = KWBundleReader.open(path)) {
+            for (int i = 0; i < 1000; i++) {
+                assertTrue(reader.next());
+                assertEquals("example.org", reader.getString(reader.indexOf("host")));
+                assertEquals(i, reader.getInt(reader.indexOf("port")));
+            }
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    void rejectsStringLengthPastRecord() throws IOException {
+        byte[] bytes = bundle(new Object[]{"s", "hello"});
+        bytes[indexOf(bytes, (byte) 5, (byte) 'h')] = 0x7F;
+        assertCorrupt(bytes);
+    }
+
+    @Test
+    void rejectsKeyLengthPastRecord() throws IOException {
+        byte[] bytes = bundle(new Object[]{"key", 1});
+        bytes[indexOf(bytes, (byte) 3, (byte) 'k')] = 0x7F;
+        assertCorrupt(bytes);
+    }
+
+    @Test
+    void rejectsPairCountPastRecord() throws IOException {
+        byte[] bytes = bundle(new Object[]{"a", 1});
+        // Pair count follows the magic number and the record length
+        bytes[8] = 0x7F;
+        assertCorrupt(bytes);
+    }
+
+    @Test
+    void rejectsVarintPastRecord() throws IOException {
+        byte[] bytes = bundle(new Object[]{"a", 1});
+        // Last byte is the value: make it a continuation byte, so the varint runs past the record
+        bytes[bytes.length - 1] = (byte) 0x80;
+        assertCorrupt(bytes);
+    }
+
+    @Test
+    void rejectsTruncatedRecord() throws IOException {
+        byte[] bytes = bundle(new Object[]{"a", "value"});
+        assertCorrupt(Arrays.copyOf(bytes, bytes.length - 1));
+    }
+
+    @Test
+    void rejectsNewKeyWithWrongId() throws IOException {
+        byte[] bytes = bundle(new Object[]{"a", 1}, new Object[]{"b", 2});
+        // Key 'b' is new with id 1, varint 1 << 1 | 1: give it id 2 instead
+        bytes[indexOf(bytes, (byte) 1, (byte) 'b') - 1] = 2 << 1 | 1;
+        assertCorrupt(bytes);
+    }
+
+    @Test
+    void rejectsNewKeyAlreadyKnown() throws IOException {
+        byte[] bytes = bundle(new Object[]{"a", 1}, new Object[]{"b", 2});
+        bytes[indexOf(bytes, (byte) 1, (byte) 'b') + 1] = 'a';
+        assertCorrupt(bytes);
+    }
+
+    @Test
+    void forgetsKeysOfRecordsTheStreamRejected() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        boolean[] failing = {false};
+        BufferedOutputStream out = new BufferedOutputStream(bytes) {
+            @Override
+            public synchronized void write(byte[] b, int off, int len) throws IOException {
+                if (failing[0]) {
+                    throw new IOException("Disk full.");
+                }
+                super.write(b, off, len);
+            }
+        };
+        try (KWBundleWriter writer = new KWBundleWriter(out)) {
+            failing[0] = true;
+            assertThrows(IOException.class, () -> writer.write("a", 1));
+            assertThrows(IOException.class, () -> writer.write(Map.of("b", 2)));
+            failing[0] = false;
+            writer.write("b", 2, "a", 1);
+        }
+        KWBundleReader reader = KWBundleReader.of(ByteBuffer.wrap(bytes.toByteArray()));
+        assertTrue(reader.next());
+        assertArrayEquals(new Object[]{"b", 2, "a", 1}, reader.toKwargs());
+        assertFalse(reader.next());
+    }
+
+    private static byte[] bundle(Object[]... records) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (KWBundleWriter writer = new KWBundleWriter(out)) {
+            for (Object[] record : records) {
+                writer.write(record);
+            }
+        }
+        return out.toByteArray();
+    } // end bundle()
+
+    // Index of the first of two consecutive bytes.
+    private static int indexOf(byte[] bytes, byte first, byte second) {
+        for (int i = 0; i + 1 < bytes.length; i++) {
+            if (bytes[i] == first && bytes[i + 1] == second) {
+                return i;
+            }
+        }
+        throw new AssertionError("Bytes not found.");
+    } // end indexOf()
+
+    private static void assertCorrupt(byte[] bytes) {
+        KWBundleReader reader = KWBundleReader.of(ByteBuffer.wrap(bytes));
+        // Corrupt in any record, reading the ones before it
+        assertThrows(IllegalStateException.class, () -> {
+            while (reader.next()) {
+            }
+        });
+    } // end assertCorrupt()
+} // end class KWBundleTest
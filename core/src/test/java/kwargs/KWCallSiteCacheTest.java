@@ -0,0 +1,186 @@
+package kwargs;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The layout cache behind {@link KWArgs#kw(Object[], Object...)}, and the {@link KWShapedMap}s it returns,
+ * which must behave like the HashMap kw() returned before.
+ */
+class KWCallSiteCacheTest {
+    private static final Object[] NONE = new Object[0];
+
+    @BeforeEach
+    void clearCache() {
+        KWCallSiteCache.clear();
+    }
+
+    @Test
+    void sameKeysHit() {
+        KWCallSiteCache.Layout first = KWCallSiteCache.layout(new Object[]{"a", 1, "b", 2}, new Object[]{"c", 3});
+        assertNotNull(first);
+        assertSame(first, KWCallSiteCache.layout(new Object[]{"a", 4, "b", 5}, new Object[]{"c", 6}));
+        // Equal keys that are not the same objects still hit
+        assertSame(first, KWCallSiteCache.layout(new Object[]{new String("a"), 7, new String("b"), 8}, new Object[]{"c", 9}));
+    }
+
+    @Test
+    void otherKeysMiss() {
+        KWCallSiteCache.Layout first = KWCallSiteCache.layout(new Object[]{"a", 1, "b", 2}, NONE);
+        assertNotSame(first, KWCallSiteCache.layout(new Object[]{"a", 1, "c", 2}, NONE));
+        assertNotSame(first, KWCallSiteCache.layout(new Object[]{"a", 1}, new Object[]{"b", 2}));
+        assertNotSame(first, KWCallSiteCache.layout(new Object[]{"b", 1, "a", 2}, NONE));
+        assertNull(KWCallSiteCache.layout(new Object[]{1, 1}, NONE));
+        assertNull(KWCallSiteCache.layout(new Object[]{"a", 1, 2, 2}, NONE));
+    }
+
+    @Test
+    void collidingLayoutsShareAnEntry() {
+        // Same first key and arity, so the same entry
+        KWCallSiteCache.Layout[] layouts = new KWCallSiteCache.Layout[KWCallSiteCache.WAYS];
+        for (int i = 0; i < layouts.length; i++) {
+            layouts[i] = KWCallSiteCache.layout(new Object[]{"name", 1, "k" + i, 2}, NONE);
+        }
+        for (int i = 0; i < layouts.length; i++) {
+            assertSame(layouts[i], KWCallSiteCache.layout(new Object[]{"name", 1, "k" + i, 2}, NONE));
+        }
+    }
+
+    @Test
+    void oldestLayoutIsEvicted() {
+        KWCallSiteCache.Layout oldest = KWCallSiteCache.layout(new Object[]{"name", 1, "k0", 2}, NONE);
+        for (int i = 1; i <= KWCallSiteCache.WAYS; i++) {
+            KWCallSiteCache.layout(new Object[]{"name", 1, "k" + i, 2}, NONE);
+        }
+        KWCallSiteCache.Layout again = KWCallSiteCache.layout(new Object[]{"name", 1, "k0", 2}, NONE);
+        assertNotNull(again);
+        assertNotSame(oldest, again);
+    }
+
+    @Test
+    void megamorphicEntryBypassesThenRetries() {
+        int layouts = KWCallSiteCache.WAYS + KWCallSiteCache.MAX_EVICTIONS + 1;
+        for (int i = 0; i < layouts; i++) {
+            assertNotNull(KWCallSiteCache.layout(new Object[]{"name", 1, "k" + i, 2}, NONE));
+        }
+        Object[] kwargs = {"name", 1, "k0", 2};
+        for (int i = 1; i < KWCallSiteCache.RETRY_AFTER; i++) {
+            assertNull(KWCallSiteCache.layout(kwargs, NONE));
+        }
+        // The last bypassed call takes the general path, with the same result, and empties the entry
+        Map<String, Object> kwmap = KWArgs.kw(kwargs);
+        assertEquals(HashMap.class, kwmap.getClass());
+        assertEquals(Map.of("name", 1, "k0", 2), kwmap);
+        KWCallSiteCache.Layout retried = KWCallSiteCache.layout(kwargs, NONE);
+        assertNotNull(retried);
+        assertSame(retried, KWCallSiteCache.layout(kwargs, NONE));
+    }
+
+    @Test
+    void hitsGiveWhatTheGeneralPathGives() {
+        Object[][] calls = {
+                {"a", 1, "b", null},
+                {"a", 1, "a", 2},
+                {"x", 1, "y", 2},
+        };
+        Object[] defaultargs = {"a", 0, "z", 26};
+        for (int repeat = 0; repeat < 3; repeat++) {
+            for (Object[] kwargs : calls) {
+                assertEquals(general(kwargs, defaultargs), KWArgs.kw(kwargs, defaultargs));
+            }
+        }
+        assertThrows(KWTypeException.class, () -> KWArgs.kw(new Object[]{"a", 1, 2, 2}, defaultargs));
+    }
+
+    @Test
+    void shapedMapWritesLikeHashMap() {
+        Map<String, Object> expected = general(new Object[]{"a", 1, "b", 2, "c", 3}, NONE);
+        Map<String, Object> kwmap = shaped(new Object[]{"a", 1, "b", 2, "c", 3});
+
+        assertEquals(expected.put("a", 10), kwmap.put("a", 10));
+        assertEquals(expected, kwmap);
+        assertEquals(expected.remove("zz"), kwmap.remove("zz"));
+        assertEquals(expected, kwmap);
+        assertEquals(expected.put("d", 4), kwmap.put("d", 4));
+        assertEquals(expected, kwmap);
+        assertEquals(expected.remove("b"), kwmap.remove("b"));
+        assertEquals(expected, kwmap);
+        assertEquals(expected.hashCode(), kwmap.hashCode());
+        kwmap.clear();
+        assertEquals(Map.of(), kwmap);
+
+        kwmap = shaped(new Object[]{"a", 1, "b", 2, "c", 3});
+        expected = general(new Object[]{"a", 1, "b", 2, "c", 3}, NONE);
+        assertEquals(expected.remove("b"), kwmap.remove("b"));
+        assertEquals(expected, kwmap);
+    }
+
+    @Test
+    void shapedMapIteratesLikeHashMap() {
+        Map<String, Object> kwmap = shaped(new Object[]{"a", 1, "b", 2, "c", 3});
+        for (Map.Entry<String, Object> entry : kwmap.entrySet()) {
+            entry.setValue((Integer) entry.getValue() * 10);
+        }
+        assertEquals(Map.of("a", 10, "b", 20, "c", 30), kwmap);
+
+        Iterator<Map.Entry<String, Object>> iterator = kwmap.entrySet().iterator();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        while (iterator.hasNext()) {
+            if (iterator.next().getKey().equals("b")) {
+                iterator.remove();
+            }
+        }
+        assertEquals(Map.of("a", 10, "c", 30), kwmap);
+        assertEquals(2, kwmap.size());
+    }
+
+    @Test
+    void shapedMapSerializesAsHashMap() throws IOException, ClassNotFoundException {
+        Map<String, Object> kwmap = shaped(new Object[]{"a", 1, "b", "two"});
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(kwmap);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Object read = in.readObject();
+            assertEquals(HashMap.class, read.getClass());
+            assertEquals(kwmap, read);
+        }
+    }
+
+    // Map kw() returns on a cache hit.
+    private static Map<String, Object> shaped(Object[] kwargs) {
+        KWArgs.kw(kwargs);
+        Map<String, Object> kwmap = KWArgs.kw(kwargs);
+        assertEquals(KWShapedMap.class, kwmap.getClass());
+        return kwmap;
+    } // end shaped()
+
+    // What kw() returned before it had a cache.
+    private static Map<String, Object> general(Object[] kwargs, Object[] defaultargs) {
+        Map<String, Object> kwmap = new HashMap<>();
+        for (int i = 0; i < defaultargs.length; i = i + 2) {
+            kwmap.put((String) defaultargs[i], defaultargs[i + 1]);
+        }
+        for (int i = 0; i < kwargs.length; i = i + 2) {
+            kwmap.put((String) kwargs[i], kwargs[i + 1]);
+        }
+        return kwmap;
+    } // end general()
+} // end class KWCallSiteCacheTest
@@ -0,0 +1,60 @@
+package kwargs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The kw* variants sharing {@link KWCheck} report the same error, at the same index, as tryKw().
+ */
+class KWCheckTest {
+    @Test
+    void formatErrors() {
+        assertSameError(Integer.class, new Object[]{"a", 1, "b"}, new Object[0], KWError.KWARGS_FORMAT, 2);
+        assertSameError(Integer.class, new Object[]{"a", 1}, new Object[]{"b"}, KWError.DEFAULTS_FORMAT, 0);
+    }
+
+    @Test
+    void defaultsAreCheckedBeforeKwargs() {
+        assertSameError(null, new Object[]{1, 1}, new Object[]{"a", 1, 2, 2}, KWError.DEFAULT_KEY_TYPE, 2);
+        assertSameError(Integer.class, new Object[]{"a", "x"}, new Object[]{"b", "y"}, KWError.DEFAULT_VALUE_TYPE, 1);
+    }
+
+    @Test
+    void valueIsCheckedBeforeItsKey() {
+        assertSameError(Integer.class, new Object[]{"a", 1, 2, "x"}, new Object[0], KWError.VALUE_TYPE, 3);
+        assertSameError(Integer.class, new Object[]{"a", 1, 2, 3}, new Object[0], KWError.KEY_TYPE, 2);
+    }
+
+    @Test
+    void primitiveTypeStandsForWrapper() {
+        assertEquals(1, KWArgs.kwCompact(int.class, new Object[]{"a", 1}).get("a"));
+        assertEquals(1, KWArgs.kwView(int.class, new Object[]{"a", 1}).get("a"));
+        assertTrue(KWArgs.tryKw(int.class, new Object[]{"a", 1}).isOk());
+        assertSameError(int.class, new Object[]{"a", 1L}, new Object[0], KWError.VALUE_TYPE, 1);
+    }
+
+    private static void assertSameError(Class<?> type, Object[] kwargs, Object[] defaultargs, KWError error, int index) {
+        KWResult<?> result = KWArgs.tryKw(type, kwargs, defaultargs);
+        assertEquals(error, result.error());
+        assertEquals(index, result.index());
+        assertThrown(result, () -> KWArgs.kwCompact(type, kwargs, defaultargs));
+        assertThrown(result, () -> KWArgs.kwView(type, kwargs, defaultargs));
+        if (type != null) {
+            assertThrown(result, () -> KWArgs.kw(type, kwargs, defaultargs));
+        }
+        if (type == null) {
+            assertThrown(result, () -> KWArgs.scope(kwargs, defaultargs));
+        }
+    } // end assertSameError()
+
+    private static void assertThrown(KWResult<?> expected, Supplier<?> parse) {
+        RuntimeException e = assertThrows(RuntimeException.class, parse::get);
+        assertEquals(expected.error(), KWError.of(e));
+        assertEquals(expected.message(), e.getMessage());
+    } // end assertThrown()
+} // end class KWCheckTest
@@ -0,0 +1,133 @@
+package kwargs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Widening of values by {@link KWConverter}, the same for every kw* method that takes a Class.
+ */
+class KWConverterTest {
+    // Widening primitive conversions, from each boxed type to every type it widens to, with the widened value.
+    private static final Object[][] WIDENINGS = {
+            {(byte) 1, (short) 1, 1, 1L, 1f, 1d},
+            {(short) 2, 2, 2L, 2f, 2d},
+            {'a', 97, 97L, 97f, 97d},
+            {3, 3L, 3f, 3d},
+            {4L, 4f, 4d},
+            {5f, 5d},
+    };
+
+    @Test
+    void widensAlongTheTable() {
+        for (Object[] row : WIDENINGS) {
+            for (int to = 1; to < row.length; to++) {
+                assertWidens(row[0], row[to]);
+            }
+        }
+        // Same value, only the type changes, as in Java
+        assertWidens(Integer.MAX_VALUE, (float) Integer.MAX_VALUE);
+        assertWidens(Long.MAX_VALUE, (double) Long.MAX_VALUE);
+    }
+
+    @Test
+    void valuesOfTheTypeAreKept() {
+        Long value = 1L << 40;
+        assertSame(value, KWConverter.widening(Long.class).convert(value));
+        assertSame(value, KWConverter.widening(long.class).convert(value));
+        assertSame(value, KWConverter.exact(Long.class).convert(value));
+    }
+
+    @Test
+    void neverNarrows() {
+        // Each row is in widening order, so no value converts to a type left of it
+        for (Object[] row : WIDENINGS) {
+            for (int from = 1; from < row.length; from++) {
+                for (int to = 0; to < from; to++) {
+                    Class<?> type = row[to].getClass();
+                    assertNull(KWConverter.widening(type).convert(row[from]), row[from].getClass().getSimpleName() + " to " + type.getSimpleName());
+                }
+            }
+        }
+        assertNull(KWConverter.widening(Short.class).convert('a'));
+        assertNull(KWConverter.widening(Byte.class).convert('a'));
+        assertNull(KWConverter.widening(Long.class).convert(1f));
+    }
+
+    @Test
+    void characterTargetNeverWidens() {
+        for (Object value : new Object[]{(byte) 97, (short) 97, 97, 97L}) {
+            assertNull(KWConverter.widening(Character.class).convert(value));
+            assertNull(KWConverter.widening(char.class).convert(value));
+        }
+        assertEquals('a', KWConverter.widening(Character.class).convert('a'));
+    }
+
+    @Test
+    void onlyNumbersWiden() {
+        for (Class<?> type : new Class<?>[]{Long.class, Double.class}) {
+            assertNull(KWConverter.widening(type).convert(null));
+            assertNull(KWConverter.widening(type).convert("1"));
+            assertNull(KWConverter.widening(type).convert(true));
+        }
+        assertNull(KWConverter.widening(Number.class).convert("1"));
+        assertEquals(1, KWConverter.widening(Number.class).convert(1));
+    }
+
+    @Test
+    void exactNeverWidens() {
+        assertNull(KWConverter.exact(Long.class).convert(1));
+        assertNull(KWConverter.exact(Double.class).convert(1f));
+    }
+
+    @Test
+    void everyClassTakingMethodWidens() {
+        Object[] kwargs = {"a", 1, "b", (short) 2};
+        Object[] defaultargs = {"c", 'c'};
+        Map<String, Long> expected = Map.of("a", 1L, "b", 2L, "c", 99L);
+        assertEquals(expected, KWArgs.kw(Long.class, kwargs, defaultargs));
+        assertEquals(expected, KWArgs.tryKw(Long.class, kwargs, defaultargs).map());
+        assertEquals(expected, KWArgs.kwCompact(Long.class, kwargs, defaultargs));
+        assertEquals(expected, KWArgs.kwView(Long.class, kwargs, defaultargs));
+        assertEquals(expected, KWArgs.kwForward(Long.class, Map.of("c", 99L), kwargs));
+        assertEquals(Map.of("a", 1L, "b", 2L, "c", 3L), KWArgs.kwForward(Long.class, Map.of("c", 99L), kwargs).with("c", 3));
+        // A view widens as values are read
+        assertEquals(Long.class, KWArgs.kwView(long.class, kwargs).get("a").getClass());
+        assertEquals(Long.class, KWArgs.kwView(long.class, kwargs).entrySet().iterator().next().getValue().getClass());
+    }
+
+    @Test
+    void tryKwFailsWhereKwThrows() {
+        Object[][] calls = {
+                {Long.class, new Object[]{"a", 1.5}, new Object[0]},
+                {Integer.class, new Object[]{"a", 1L}, new Object[0]},
+                {Short.class, new Object[]{"a", 'a'}, new Object[0]},
+                {Character.class, new Object[]{"a", 97}, new Object[0]},
+                {Double.class, new Object[]{"a", 1}, new Object[]{"b", "x"}},
+                {Float.class, new Object[]{"a", null}, new Object[0]},
+        };
+        for (Object[] call : calls) {
+            Class<?> type = (Class<?>) call[0];
+            Object[] kwargs = (Object[]) call[1], defaultargs = (Object[]) call[2];
+            RuntimeException e = assertThrows(RuntimeException.class, () -> KWArgs.kw(type, kwargs, defaultargs));
+            KWResult<?> result = KWArgs.tryKw(type, kwargs, defaultargs);
+            assertEquals(KWError.of(e), result.error());
+            assertEquals(((KWTypeException) e).index(), result.index());
+            assertEquals(e.getMessage(), result.message());
+            assertEquals(e.getMessage(), assertThrows(KWTypeException.class, () -> KWArgs.kwCompact(type, kwargs, defaultargs)).getMessage());
+            assertEquals(e.getMessage(), assertThrows(KWTypeException.class, () -> KWArgs.kwView(type, kwargs, defaultargs)).getMessage());
+        }
+    }
+
+    // Checks value widens to the type of widened, and becomes widened.
+    private static void assertWidens(Object value, Object widened) {
+        Object converted = KWConverter.widening(widened.getClass()).convert(value);
+        assertEquals(widened, converted, value.getClass().getSimpleName() + " to " + widened.getClass().getSimpleName());
+        assertEquals(widened, KWArgs.kw(widened.getClass(), new Object[]{"a", value}).get("a"));
+    } // end assertWidens()
+} // end class KWConverterTest
@@ -0,0 +1,129 @@
+package kwargs;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Calls through {@link KWArgs#invoke}: which method a key layout resolves to, and how bad calls fail.
+ */
+class KWInvokerTest {
+    public static class Shapes {
+        public static String area(int side) {
+            return "square " + side * side;
+        }
+
+        public static String area(int width, int height) {
+            return "rectangle " + width * height;
+        }
+
+        public String area(double radius) {
+            return "circle " + Math.round(Math.PI * radius * radius);
+        }
+
+        public String describe(String name, int sides) {
+            return name + " has " + sides + " sides";
+        }
+
+        public static void twin(int x) {
+        }
+
+        public static void twin(String x) {
+        }
+
+        static int hidden(int x) {
+            return -x;
+        }
+
+        public static void failing(boolean checked) throws IOException {
+            if (checked) {
+                throw new IOException("checked");
+            }
+            throw new IllegalStateException("unchecked");
+        }
+    } // end class Shapes
+
+    public static class Squares extends Shapes {
+        @Override
+        public String describe(String name, int sides) {
+            return "square " + super.describe(name, sides);
+        }
+    } // end class Squares
+
+    @Test
+    void resolvesOverloadsByParameterNames() {
+        assertEquals("square 9", KWArgs.invoke(Shapes.class, "area", "side", 3));
+        assertEquals("rectangle 6", KWArgs.invoke(Shapes.class, "area", "width", 2, "height", 3));
+        assertEquals("circle 3", KWArgs.invoke(new Shapes(), "area", "radius", 1.0));
+        assertEquals(-4, KWArgs.invoke(Shapes.class, "hidden", "x", 4));
+    }
+
+    @Test
+    void resolvesInheritedAndOverriddenMethods() {
+        assertEquals("circle 3", KWArgs.invoke(new Squares(), "area", "radius", 1.0));
+        assertEquals("square box has 4 sides", KWArgs.invoke(new Squares(), "describe", "name", "box", "sides", 4));
+        assertEquals("box has 4 sides", KWArgs.invoke(new Shapes(), "describe", "name", "box", "sides", 4));
+    }
+
+    @Test
+    void eachKeyLayoutBindsItsOwnPositions() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals("a has 3 sides", KWArgs.invoke(new Shapes(), "describe", "name", "a", "sides", 3));
+            assertEquals("b has 5 sides", KWArgs.invoke(new Shapes(), "describe", "sides", 5, "name", "b"));
+            // Equal keys that are not the same objects find the same binding
+            assertEquals("c has 6 sides", KWArgs.invoke(new Shapes(), "describe", new String("sides"), 6, new String("name"), "c"));
+            // Same layout, other method of the same name
+            assertEquals("rectangle 15", KWArgs.invoke(Shapes.class, "area", "height", 5, "width", 3));
+        }
+    }
+
+    @Test
+    void rejectsUnknownAndAmbiguousMethods() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> KWArgs.invoke(Shapes.class, "area", "depth", 1));
+        assertEquals("Class Shapes has no static method 'area' with parameters [depth].", e.getMessage());
+        e = assertThrows(IllegalArgumentException.class, () -> KWArgs.invoke(Shapes.class, "area", "radius", 1.0));
+        assertEquals("Class Shapes has no static method 'area' with parameters [radius].", e.getMessage());
+        e = assertThrows(IllegalArgumentException.class, () -> KWArgs.invoke(Shapes.class, "twin", "x", 1));
+        assertEquals("Class Shapes has more than one static method 'twin' with parameters [x].", e.getMessage());
+    }
+
+    @Test
+    void reportsMissingParameterNames() {
+        // JDK classes are compiled without '-parameters'
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> KWArgs.invoke("abc", "indexOf", "str", "b"));
+        assertEquals("Parameter names of method 'indexOf' in class String are not available. Compile it with javac's '-parameters' flag.", e.getMessage());
+    }
+
+    @Test
+    void rejectsDuplicateKeys() {
+        KWTypeException e = assertThrows(KWTypeException.class, () -> KWArgs.invoke(Shapes.class, "area", "width", 1, "width", 2));
+        assertEquals("Keyword 'width' passed more than once.", e.getMessage());
+        assertEquals(KWError.DUPLICATE_KEY, e.error());
+        assertEquals(2, e.index());
+    }
+
+    @Test
+    void reportsValueTypesLikeKw() {
+        KWTypeException e = assertThrows(KWTypeException.class, () -> KWArgs.invoke(Shapes.class, "area", "width", 2, "height", "3"));
+        assertEquals(KWError.VALUE_TYPE, e.error());
+        assertEquals(3, e.index());
+        assertEquals(KWError.VALUE_TYPE.message("3", Integer.class), e.getMessage());
+        // A null value cannot be passed to a primitive parameter
+        e = assertThrows(KWTypeException.class, () -> KWArgs.invoke(Shapes.class, "area", "side", null));
+        assertEquals(1, e.index());
+        assertEquals("Value 'null' of type null not allowed in kwargs of type Integer", e.getMessage());
+    }
+
+    @Test
+    void passesExceptionsOfTheMethod() {
+        IllegalStateException unchecked = assertThrows(IllegalStateException.class, () -> KWArgs.invoke(Shapes.class, "failing", "checked", false));
+        assertEquals("unchecked", unchecked.getMessage());
+        UndeclaredThrowableException checked = assertThrows(UndeclaredThrowableException.class, () -> KWArgs.invoke(Shapes.class, "failing", "checked", true));
+        assertInstanceOf(IOException.class, checked.getCause());
+    }
+} // end class KWInvokerTest
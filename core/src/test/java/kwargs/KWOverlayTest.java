@@ -0,0 +1,50 @@
+package kwargs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Chains of {@link KWOverlay} layers, past {@link KWOverlay#MAX_DEPTH}, read the same as a copied Map.
+ */
+class KWOverlayTest {
+    @Test
+    void deepChainsReadLikeCopies() {
+        Map<String, Object> root = KWArgs.kw(new Object[]{"a", 0, "b", 0, "c", 0, "d", 0});
+        Map<String, Object> expected = new HashMap<>(root);
+        KWOverlay<Object> forwarded = KWArgs.kwForward(root);
+        String[] keys = {"a", "b", "c", "d", "e"};
+        for (int i = 1; i <= KWOverlay.MAX_DEPTH * 3; i++) {
+            String key = keys[i % keys.length];
+            if (i % 3 == 0) {
+                forwarded = forwarded.without(key);
+                expected.remove(key);
+            } else {
+                forwarded = forwarded.with(key, i);
+                expected.put(key, i);
+            }
+            assertTrue(forwarded.depth() <= KWOverlay.MAX_DEPTH);
+            assertEquals(expected, forwarded);
+            assertEquals(expected.size(), forwarded.size());
+            for (String k : keys) {
+                assertEquals(expected.containsKey(k), forwarded.containsKey(k));
+                assertEquals(expected.get(k), forwarded.get(k));
+            }
+        }
+    }
+
+    @Test
+    void foldingResetsDepth() {
+        Map<String, Object> root = KWArgs.kw(new Object[]{"a", 1});
+        KWOverlay<Object> forwarded = KWArgs.kwForward(root);
+        for (int i = 1; i <= KWOverlay.MAX_DEPTH; i++) {
+            forwarded = forwarded.with("b", i);
+        }
+        assertEquals(1, forwarded.depth());
+        assertEquals(Map.of("a", 1, "b", KWOverlay.MAX_DEPTH), forwarded);
+    }
+} // end class KWOverlayTest
@@ -0,0 +1,104 @@
+package kwargs;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Decoding of numbers by {@link KWParser}: what is accepted, what is rejected, and where the error is reported.
+ */
+class KWParserTest {
+    private static final KWLongMap LONGS = KWLongMap.of(new String[]{"n"}, new long[]{0});
+    private static final KWDoubleMap DOUBLES = KWDoubleMap.of(new String[]{"x"}, new double[]{0});
+    private static final KWIntMap INTS = KWIntMap.of(new String[]{"n"}, new int[]{0});
+
+    @Test
+    void longsAcceptFullRange() {
+        assertEquals(Long.MAX_VALUE, KWParser.DEFAULT.parseLongs("n=9223372036854775807", LONGS).get("n"));
+        assertEquals(Long.MIN_VALUE, KWParser.DEFAULT.parseLongs("n=-9223372036854775808", LONGS).get("n"));
+        assertEquals(42, KWParser.DEFAULT.parseLongs("n=+42", LONGS).get("n"));
+    }
+
+    @Test
+    void longsRejectOverflow() {
+        assertRejected(() -> KWParser.DEFAULT.parseLongs("n=9223372036854775808", LONGS), 2);
+        assertRejected(() -> KWParser.DEFAULT.parseLongs("n=-9223372036854775809", LONGS), 2);
+        assertRejected(() -> KWParser.DEFAULT.parseLongs("n=99999999999999999999", LONGS), 2);
+    }
+
+    @Test
+    void intsRejectOutOfRange() {
+        assertEquals(Integer.MIN_VALUE, KWParser.DEFAULT.parseInts("n=-2147483648", INTS).get("n"));
+        assertRejected(() -> KWParser.DEFAULT.parseInts("n=2147483648", INTS), 2);
+    }
+
+    @Test
+    void longsRejectMalformed() {
+        for (String value : new String[]{"", "-", "+", "1.0", " 1", "1 ", "0x10", "1L"}) {
+            assertRejected(() -> KWParser.DEFAULT.parseLongs("n=" + value, LONGS), 2);
+        }
+    }
+
+    @Test
+    void doublesAcceptDecimals() {
+        assertEquals(1.5, parseDouble("1.5"));
+        assertEquals(-0.25, parseDouble("-.25"));
+        assertEquals(3.0, parseDouble("3."));
+        assertEquals(0.1, parseDouble("0.1"));
+        assertEquals(1.2345678901234567, parseDouble("1.2345678901234567"));
+        assertEquals(1.5e300, parseDouble("1.5e300"));
+        assertEquals(2.5E-3, parseDouble("+2.5E-3"));
+        assertEquals(Double.POSITIVE_INFINITY, parseDouble("1e400"));
+        assertEquals(Double.NEGATIVE_INFINITY, parseDouble("-Infinity"));
+        assertTrue(Double.isNaN(parseDouble("NaN")));
+    }
+
+    @Test
+    void doublesRejectWhatIntegersReject() {
+        for (String value : new String[]{"", "-", ".", "1.5d", "1.5f", "1.5D", "0x1p3", " 1.5", "1.5 ", "1e", "1e+", "e5", "1.2.3", "Inf", "nan"}) {
+            assertRejected(() -> KWParser.DEFAULT.parseDoubles("x=" + value, DOUBLES), 2);
+        }
+    }
+
+    @Test
+    void schemaFloatsRejectSuffixes() {
+        KWSchema schema = new KWSchema.Builder().key("f", float.class).build();
+        assertEquals(0.5f, KWParser.DEFAULT.parse(schema, "f=0.5").get(0));
+        assertRejected(() -> KWParser.DEFAULT.parse(schema, "f=0.5f"), 2);
+    }
+
+    @Test
+    void bytesReportOffsetFromStart() {
+        ByteBuffer text = ByteBuffer.wrap("x=1,x=2.0d".getBytes(StandardCharsets.US_ASCII));
+        assertRejected(() -> KWParser.DEFAULT.parseDoubles(text, DOUBLES), 6);
+    }
+
+    @Test
+    void schemaReportsMissingKeywordAtEnd() {
+        KWSchema schema = new KWSchema.Builder().key("a", int.class).key("b", int.class, 2).key("c", String.class).build();
+        KWSchema.Args args = KWParser.DEFAULT.parse(schema, "c=x,a=1");
+        assertEquals(1, args.getInt(0));
+        assertEquals(2, args.getInt(1));
+        KWFormatException e = assertThrows(KWFormatException.class, () -> KWParser.DEFAULT.parse(schema, "a=1,b=3"));
+        assertEquals(KWError.MISSING_KEY, e.error());
+        assertEquals(7, e.index());
+        assertEquals("Keyword 'c' is required.", e.getMessage());
+        // Parsing fills a copy of the defaults, never the schema's own
+        assertEquals(2, KWParser.DEFAULT.parse(schema, "a=1,c=y").getInt(1));
+    }
+
+    private static double parseDouble(String value) {
+        return KWParser.DEFAULT.parseDoubles("x=" + value, DOUBLES).get("x");
+    } // end parseDouble()
+
+    private static void assertRejected(Runnable parse, int index) {
+        KWTypeException e = assertThrows(KWTypeException.class, parse::run);
+        assertEquals(KWError.VALUE_TYPE, e.error());
+        assertEquals(index, e.index());
+    } // end assertRejected()
+} // end class KWParserTest
@@ -0,0 +1,120 @@
+package kwargs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The open-addressing table of {@link KWPrimitiveMap}, and the kw*Map methods filling it.
+ */
+class KWPrimitiveMapTest {
+    // "Aa" and "BB" have the same hashCode, as do any concatenations of them of the same length
+    private static final String[] COLLIDING = {"AaAa", "AaBB", "BBAa", "BBBB"};
+
+    @Test
+    void growsToHoldEveryKey() {
+        String[] keys = new String[1000];
+        int[] values = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "k" + i;
+            values[i] = i * 3;
+        }
+        KWIntMap kwmap = KWIntMap.of(keys, values);
+        assertEquals(keys.length, kwmap.size());
+        // At most half full
+        assertTrue(kwmap.keys.length >= keys.length * 2);
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(i * 3, kwmap.get(keys[i]));
+        }
+        KWIntMap copy = kwmap.copy(1000);
+        assertEquals(kwmap.size(), copy.size());
+        assertEquals(999 * 3, copy.get("k999"));
+    }
+
+    @Test
+    void collidingKeysProbe() {
+        KWLongMap kwmap = KWLongMap.of(COLLIDING, new long[]{1, 2, 3, 4});
+        assertEquals(4, kwmap.size());
+        for (int i = 0; i < COLLIDING.length; i++) {
+            assertEquals(i + 1, kwmap.get(COLLIDING[i]));
+        }
+        assertFalse(kwmap.containsKey("AaAaAa"));
+        assertEquals(-1, kwmap.getOrDefault("BBBBBB", -1));
+    }
+
+    @Test
+    void laterKeysOverwrite() {
+        KWDoubleMap kwmap = KWDoubleMap.of(new String[]{"x", "y", "x"}, new double[]{1, 2, 3});
+        assertEquals(2, kwmap.size());
+        assertEquals(3.0, kwmap.get("x"));
+    }
+
+    @Test
+    void missingKeys() {
+        KWIntMap kwmap = KWIntMap.of(new String[]{"a"}, new int[]{1});
+        NoSuchElementException e = assertThrows(NoSuchElementException.class, () -> kwmap.get("b"));
+        assertEquals("Keyword 'b' not found.", e.getMessage());
+        assertEquals(7, kwmap.getOrDefault("b", 7));
+        assertFalse(kwmap.containsKey("b"));
+        assertTrue(KWIntMap.of(new String[0], new int[0]).isEmpty());
+    }
+
+    @Test
+    void findInTextHashesLikeString() {
+        String[] keys = {"", "a", "min", "max", "a_much_longer_keyword", "héllo", COLLIDING[0], COLLIDING[3]};
+        KWIntMap kwmap = KWIntMap.indexOf(keys);
+        for (String key : keys) {
+            String text = "[" + key + "]";
+            assertEquals(kwmap.find(key), kwmap.find(text, 1, text.length() - 1));
+            assertEquals(kwmap.find(key), kwmap.find(new StringBuilder(text), 1, text.length() - 1));
+        }
+        assertTrue(kwmap.find("[mix]", 1, 4) < 0);
+        assertEquals(kwmap.find("mix"), kwmap.find("[mix]", 1, 4));
+    }
+
+    @Test
+    void kwMapsUnboxEveryType() {
+        assertEquals(1, KWArgs.kwIntMap(new Object[]{"a", 1}).get("a"));
+        assertEquals(1L, KWArgs.kwLongMap(new Object[]{"a", 1L}).get("a"));
+        assertEquals(1.5, KWArgs.kwDoubleMap(new Object[]{"a", 1.5}).get("a"));
+        assertEquals(1.5f, KWArgs.kwFloatMap(new Object[]{"a", 1.5f}).get("a"));
+        assertEquals((short) 1, KWArgs.kwShortMap(new Object[]{"a", (short) 1}).get("a"));
+        assertEquals((byte) 1, KWArgs.kwByteMap(new Object[]{"a", (byte) 1}).get("a"));
+        assertTrue(KWArgs.kwBooleanMap(new Object[]{"a", true}).get("a"));
+        assertEquals('c', KWArgs.kwCharMap(new Object[]{"a", 'c'}).get("a"));
+    }
+
+    @Test
+    void kwargsOverwriteDefaults() {
+        KWIntMap kwmap = KWArgs.kwIntMap(new Object[]{"a", 1}, "a", 0, "b", 2);
+        assertEquals(2, kwmap.size());
+        assertEquals(1, kwmap.get("a"));
+        assertEquals(2, kwmap.get("b"));
+
+        KWIntMap defaults = KWIntMap.of(new String[]{"a", "b"}, new int[]{0, 2});
+        KWIntMap over = KWArgs.kwIntMap(new Object[]{"a", 1, "c", 3}, defaults);
+        assertEquals(3, over.size());
+        assertEquals(1, over.get("a"));
+        assertEquals(0, defaults.get("a"));
+    }
+
+    @Test
+    void errorsMatchTypedKw() {
+        Object[][] kwargs = {{"a", 1, "b"}, {"a", 1L}, {1, 1}, {"a", 1, 2, "x"}};
+        for (Object[] args : kwargs) {
+            KWResult<Integer> expected = KWArgs.tryKw(Integer.class, args);
+            RuntimeException e = assertThrows(RuntimeException.class, () -> KWArgs.kwIntMap(args));
+            assertEquals(expected.error(), KWError.of(e));
+            assertEquals(expected.message(), e.getMessage());
+            e = assertThrows(RuntimeException.class, () -> KWArgs.kwIntMap(args, KWIntMap.of(new String[0], new int[0])));
+            assertEquals(expected.message(), e.getMessage());
+        }
+        RuntimeException e = assertThrows(RuntimeException.class, () -> KWArgs.kwIntMap(new Object[0], "a", 1, "b"));
+        assertEquals(KWError.DEFAULTS_FORMAT, KWError.of(e));
+    }
+} // end class KWPrimitiveMapTest
@@ -0,0 +1,77 @@
+package kwargs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Borrowing and closing {@link KWScope}s, including scopes used after close() and the reuse of their handle.
+ */
+class KWScopeTest {
+    @Test
+    void closedScopeThrowsUntilBorrowedAgain() {
+        KWScope first = KWArgs.scope(new Object[]{"a", 1});
+        first.close();
+        assertThrows(IllegalStateException.class, () -> first.get("a"));
+        assertThrows(IllegalStateException.class, first::size);
+        assertThrows(IllegalStateException.class, () -> first.containsKey("a"));
+        first.close();
+        try (KWScope second = KWArgs.scope(new Object[]{"a", 2})) {
+            assertEquals(2, second.get("a"));
+            assertEquals(1, second.size());
+        }
+    }
+
+    @Test
+    void reusesTheHandleOfItsStorage() {
+        KWScope first = KWArgs.scope(new Object[]{"a", 1});
+        first.close();
+        // Same thread and nothing else borrowing, so the same pooled storage, lent with the same handle
+        try (KWScope second = KWArgs.scope(new Object[]{"b", 2})) {
+            assertSame(first, second);
+            assertEquals(Map.of("b", 2), second);
+        }
+    }
+
+    @Test
+    void closeTwiceDoesNothing() {
+        KWScope scope = KWArgs.scope(new Object[]{"a", 1});
+        scope.close();
+        scope.close();
+        try (KWScope next = KWArgs.scope(new Object[]{"b", 2})) {
+            try (KWScope other = KWArgs.scope(new Object[]{"c", 3})) {
+                assertEquals(Map.of("b", 2), next);
+                assertEquals(Map.of("c", 3), other);
+            }
+        }
+    }
+
+    @Test
+    void readsLikeKw() {
+        // Many layouts, so some calls take the hashed table rather than a remembered layout
+        for (int i = 0; i < 100; i++) {
+            Object[] kwargs = {"k" + i, i, "min", -i};
+            Object[] defaultargs = {"min", 0, "max", 100};
+            try (KWScope scope = KWArgs.scope(kwargs, defaultargs)) {
+                assertEquals(KWArgs.kw(kwargs, defaultargs), scope);
+                assertEquals(-i, scope.get("min"));
+                assertFalse(scope.containsKey("k" + (i + 1)));
+            }
+        }
+    }
+
+    @Test
+    void failedCallLeavesPoolUsable() {
+        for (int i = 0; i < 100; i++) {
+            assertThrows(KWTypeException.class, () -> KWArgs.scope(new Object[]{"a", 1, 2, 2}));
+        }
+        try (KWScope scope = KWArgs.scope(new Object[]{"a", 1})) {
+            assertEquals(Map.of("a", 1), scope);
+        }
+    }
+} // end class KWScopeTest
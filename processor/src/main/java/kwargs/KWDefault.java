@@ -0,0 +1,17 @@
+package kwargs;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Default value of a parameter of a {@link KWMethod}, making it optional.
+ * The value is a Java expression, copied as is into the generated builder, ex. '@KWDefault("100")'
+ * or '@KWDefault("\"none\"")', so it is type checked when the builder is compiled.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.PARAMETER)
+public @interface KWDefault {
+    String value();
+}
@@ -0,0 +1,27 @@
+package kwargs;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates a named-argument builder for a method at compile time, with no kwargs parsing at runtime.
+ * <pre>
+ * class Ranges {
+ *     &#64;KWMethod
+ *     static boolean isInRange(int num, &#64;KWDefault("0") int min, &#64;KWDefault("100") int max) { ... }
+ * }
+ * ...
+ * boolean inRange = RangesKW.isInRange().num(6).max(7).call();
+ * </pre>
+ * The builder goes in class '[enclosing class]KW' of the same package. It has one setter per parameter, named after it,
+ * and call() passes every value positionally to the method. Misspelled keywords and values of the wrong type are
+ * compile errors. Parameters without {@link KWDefault} are required, and call() throws if one was not set.
+ * <p>
+ * Methods must not be private or generic, and parameter names are taken from source, so no '-parameters' flag is needed.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.METHOD)
+public @interface KWMethod {
+}
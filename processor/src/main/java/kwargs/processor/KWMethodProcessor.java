@@ -0,0 +1,286 @@
+package kwargs.processor;
+
+import kwargs.KWDefault;
+import kwargs.KWMethod;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.type.WildcardType;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates the builders of {@link KWMethod} methods: one class '[enclosing class]KW' per enclosing class,
+ * with one nested builder per method. See {@link KWMethod} for what the builders look like.
+ */
+public class KWMethodProcessor extends AbstractProcessor {
+    // Required parameters are tracked in one long bitmask.
+    private static final int MAX_PARAMETERS = 64;
+
+    private Filer filer;
+    private Messager messager;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        filer = processingEnv.getFiler();
+        messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of(KWMethod.class.getCanonicalName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        // Group methods by enclosing class, since each class gets one generated class.
+        Map<TypeElement, List<ExecutableElement>> methodsByClass = new LinkedHashMap<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(KWMethod.class)) {
+            if (element.getKind() != ElementKind.METHOD) {
+                continue;
+            }
+            ExecutableElement method = (ExecutableElement) element;
+            if (isValid(method)) {
+                methodsByClass.computeIfAbsent((TypeElement) method.getEnclosingElement(), k -> new ArrayList<>()).add(method);
+            }
+        }
+
+        for (Map.Entry<TypeElement, List<ExecutableElement>> entry : methodsByClass.entrySet()) {
+            if (hasOverloads(entry.getValue())) {
+                continue;
+            }
+            try {
+                write(entry.getKey(), entry.getValue());
+            } catch (IOException e) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "Could not write builder of " + entry.getKey() + ": " + e.getMessage(), entry.getKey());
+            }
+        }
+        return true;
+    } // end process()
+
+    // Reports an error and returns false if no builder can be generated for a method.
+    private boolean isValid(ExecutableElement method) {
+        TypeElement owner = (TypeElement) method.getEnclosingElement();
+        String error = null;
+        if (method.getModifiers().contains(Modifier.PRIVATE)) {
+            error = "@KWMethod method must not be private.";
+        } else if (!method.getTypeParameters().isEmpty()) {
+            error = "@KWMethod method must not be generic.";
+        } else if (!owner.getTypeParameters().isEmpty() && !method.getModifiers().contains(Modifier.STATIC)) {
+            error = "@KWMethod instance method must not be in a generic class.";
+        } else if (owner.getNestingKind().isNested() && !owner.getModifiers().contains(Modifier.STATIC) && owner.getKind() == ElementKind.CLASS) {
+            error = "@KWMethod method must not be in an inner (non-static) class.";
+        } else if (method.getParameters().size() > MAX_PARAMETERS) {
+            error = "@KWMethod method must not have more than " + MAX_PARAMETERS + " parameters.";
+        }
+        if (error != null) {
+            messager.printMessage(Diagnostic.Kind.ERROR, error, method);
+            return false;
+        }
+        return true;
+    } // end isValid()
+
+    // Builders are named after their method, so a class can't have two @KWMethod methods of the same name.
+    private boolean hasOverloads(List<ExecutableElement> methods) {
+        boolean found = false;
+        for (int i = 0; i < methods.size(); i++) {
+            for (int j = 0; j < i; j++) {
+                if (methods.get(i).getSimpleName().contentEquals(methods.get(j).getSimpleName())) {
+                    messager.printMessage(Diagnostic.Kind.ERROR, "@KWMethod methods must not be overloaded.", methods.get(i));
+                    found = true;
+                }
+            }
+        }
+        return found;
+    } // end hasOverloads()
+
+    private void write(TypeElement owner, List<ExecutableElement> methods) throws IOException {
+        String packageName = processingEnv.getElementUtils().getPackageOf(owner).getQualifiedName().toString();
+        String ownerName = owner.getQualifiedName().toString();
+        // Nested classes get their outer classes' names too, ex. Outer.Inner -> OuterInnerKW.
+        String className = (packageName.isEmpty() ? ownerName : ownerName.substring(packageName.length() + 1)).replace(".", "") + "KW";
+
+        StringBuilder src = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            src.append("package ").append(packageName).append(";\n\n");
+        }
+        src.append("/**\n * Named-argument builders of the @KWMethod methods of {@link ").append(ownerName).append("}.\n")
+                .append(" * Generated by ").append(KWMethodProcessor.class.getName()).append(". Do not edit.\n */\n");
+        src.append("public final class ").append(className).append(" {\n");
+        src.append("    private ").append(className).append("() {\n    }\n");
+        for (ExecutableElement method : methods) {
+            src.append('\n');
+            writeBuilder(src, ownerName, method);
+        }
+        src.append("}\n");
+
+        try (Writer writer = filer.createSourceFile((packageName.isEmpty() ? "" : packageName + ".") + className, owner).openWriter()) {
+            writer.write(src.toString());
+        }
+    } // end write()
+
+    private void writeBuilder(StringBuilder src, String ownerName, ExecutableElement method) {
+        String methodName = method.getSimpleName().toString();
+        String builderName = Character.toUpperCase(methodName.charAt(0)) + methodName.substring(1);
+        boolean isStatic = method.getModifiers().contains(Modifier.STATIC);
+        List<? extends VariableElement> parameters = method.getParameters();
+
+        long required = 0;
+        for (int i = 0; i < parameters.size(); i++) {
+            if (parameters.get(i).getAnnotation(KWDefault.class) == null) {
+                required |= 1L << i;
+            }
+        }
+
+        // Factory
+        src.append("    /**\n     * @return Builder of a call to {@link ").append(ownerName).append('#').append(methodName).append("}.\n     */\n");
+        src.append("    public static ").append(builderName).append(' ').append(methodName).append('(')
+                .append(isStatic ? "" : ownerName + " target").append(") {\n");
+        src.append("        return new ").append(builderName).append('(').append(isStatic ? "" : "target").append(");\n");
+        src.append("    }\n\n");
+
+        // Builder: one field and setter per parameter
+        src.append("    public static final class ").append(builderName).append(" {\n");
+        if (!isStatic) {
+            src.append("        private final ").append(ownerName).append(" $target;\n");
+        }
+        src.append("        // Required parameters set so far, bit 'i' for parameter 'i'.\n");
+        src.append("        private long $set;\n");
+        for (VariableElement parameter : parameters) {
+            KWDefault defaultValue = parameter.getAnnotation(KWDefault.class);
+            src.append("        private ").append(typeName(parameter.asType())).append(' ').append(parameter.getSimpleName());
+            if (defaultValue != null) {
+                src.append(" = ").append(defaultValue.value());
+            }
+            src.append(";\n");
+        }
+        src.append('\n');
+        src.append("        private ").append(builderName).append('(').append(isStatic ? "" : ownerName + " target").append(") {\n");
+        if (!isStatic) {
+            src.append("            this.$target = java.util.Objects.requireNonNull(target);\n");
+        }
+        src.append("        }\n");
+        for (int i = 0; i < parameters.size(); i++) {
+            String name = parameters.get(i).getSimpleName().toString();
+            src.append('\n');
+            src.append("        public ").append(builderName).append(' ').append(name).append('(')
+                    .append(typeName(parameters.get(i).asType())).append(' ').append(name).append(") {\n");
+            src.append("            this.").append(name).append(" = ").append(name).append(";\n");
+            if ((required & (1L << i)) != 0) {
+                src.append("            this.$set |= ").append(1L << i).append("L;\n");
+            }
+            src.append("            return this;\n");
+            src.append("        }\n");
+        }
+
+        // call(): check required parameters, then pass everything positionally
+        String returnType = typeName(method.getReturnType());
+        src.append('\n');
+        src.append("        /**\n         * Calls {@link ").append(ownerName).append('#').append(methodName).append("} with the values set so far.\n")
+                .append("         *\n         * @throws java.util.NoSuchElementException If a parameter without default value was not set\n         */\n");
+        src.append("        public ").append(returnType).append(" call()");
+        if (!method.getThrownTypes().isEmpty()) {
+            src.append(" throws ");
+            for (int i = 0; i < method.getThrownTypes().size(); i++) {
+                src.append(i > 0 ? ", " : "").append(typeName(method.getThrownTypes().get(i)));
+            }
+        }
+        src.append(" {\n");
+        if (required != 0) {
+            src.append("            if ($set != ").append(required).append("L) {\n");
+            src.append("                throw new java.util.NoSuchElementException(\"Keyword '\" + missing() + \"' is required.\");\n");
+            src.append("            }\n");
+        }
+        src.append("            ").append(returnType.equals("void") ? "" : "return ")
+                .append(isStatic ? ownerName : "$target").append('.').append(methodName).append('(');
+        for (int i = 0; i < parameters.size(); i++) {
+            src.append(i > 0 ? ", " : "").append(parameters.get(i).getSimpleName());
+        }
+        src.append(");\n");
+        src.append("        }\n");
+
+        // missing(): name of the first required parameter not set, only built on the failure path
+        if (required != 0) {
+            src.append('\n');
+            src.append("        private String missing() {\n");
+            for (int i = 0; i < parameters.size(); i++) {
+                if ((required & (1L << i)) != 0) {
+                    src.append("            if (($set & ").append(1L << i).append("L) == 0) {\n");
+                    src.append("                return \"").append(parameters.get(i).getSimpleName()).append("\";\n");
+                    src.append("            }\n");
+                }
+            }
+            src.append("            return null;\n");
+            src.append("        }\n");
+        }
+        src.append("    }\n");
+    } // end writeBuilder()
+
+    /**
+     * Source name of a type, ex. 'java.util.List<java.lang.String>'. Unlike TypeMirror.toString(), leaves out
+     * type-use annotations, which toString() puts where they are not valid source (ex. '@NonNull java.lang.String').
+     */
+    static String typeName(TypeMirror type) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return typeName(((ArrayType) type).getComponentType()) + "[]";
+            case DECLARED: {
+                DeclaredType declared = (DeclaredType) type;
+                StringBuilder name = new StringBuilder(((TypeElement) declared.asElement()).getQualifiedName());
+                List<? extends TypeMirror> arguments = declared.getTypeArguments();
+                if (!arguments.isEmpty()) {
+                    name.append('<');
+                    for (int i = 0; i < arguments.size(); i++) {
+                        name.append(i > 0 ? ", " : "").append(typeName(arguments.get(i)));
+                    }
+                    name.append('>');
+                }
+                return name.toString();
+            }
+            case WILDCARD: {
+                WildcardType wildcard = (WildcardType) type;
+                if (wildcard.getExtendsBound() != null) {
+                    return "? extends " + typeName(wildcard.getExtendsBound());
+                }
+                if (wildcard.getSuperBound() != null) {
+                    return "? super " + typeName(wildcard.getSuperBound());
+                }
+                return "?";
+            }
+            case TYPEVAR:
+                return ((TypeVariable) type).asElement().getSimpleName().toString();
+            default:
+                // Primitives and void: their keyword
+                return type.getKind().isPrimitive() || type.getKind() == TypeKind.VOID
+                        ? type.getKind().name().toLowerCase(Locale.ROOT) : type.toString();
+        }
+    } // end typeName()
+} // end class KWMethodProcessor
@@ -0,0 +1,134 @@
+package kwargs.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compiles sources with the processor, then compiles and runs the builders it generates.
+ */
+class KWMethodProcessorTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void builderCallsMethodWithDefaults() throws Exception {
+        ClassLoader loader = compile("demo.Ranges",
+                "package demo;\n"
+                + "import kwargs.KWDefault;\n"
+                + "import kwargs.KWMethod;\n"
+                + "public class Ranges {\n"
+                + "    @KWMethod\n"
+                + "    public static boolean isInRange(int num, @KWDefault(\"0\") int min, @KWDefault(\"100\") int max) {\n"
+                + "        return num > min && num < max;\n"
+                + "    }\n"
+                + "}\n");
+        Object builder = builder(loader, "demo.RangesKW", "isInRange");
+        set(builder, "num", int.class, 6);
+        assertEquals(true, call(builder));
+        set(builder, "max", int.class, 5);
+        assertEquals(false, call(builder));
+    }
+
+    @Test
+    void missingRequiredParameterThrows() throws Exception {
+        ClassLoader loader = compile("demo.Ranges",
+                "package demo;\n"
+                + "import kwargs.KWMethod;\n"
+                + "public class Ranges {\n"
+                + "    @KWMethod\n"
+                + "    public static int add(int a, int b) {\n"
+                + "        return a + b;\n"
+                + "    }\n"
+                + "}\n");
+        Object builder = builder(loader, "demo.RangesKW", "add");
+        set(builder, "a", int.class, 1);
+        Throwable thrown = assertThrows(Exception.class, () -> call(builder)).getCause();
+        assertTrue(thrown instanceof NoSuchElementException);
+        assertEquals("Keyword 'b' is required.", thrown.getMessage());
+    }
+
+    @Test
+    void typeUseAnnotationsAreNotCopied() throws Exception {
+        ClassLoader loader = compile("demo.Names",
+                "package demo;\n"
+                + "import java.lang.annotation.ElementType;\n"
+                + "import java.lang.annotation.Target;\n"
+                + "import java.util.List;\n"
+                + "import kwargs.KWDefault;\n"
+                + "import kwargs.KWMethod;\n"
+                + "public class Names {\n"
+                + "    @Target(ElementType.TYPE_USE)\n"
+                + "    public @interface NonNull {\n"
+                + "    }\n"
+                + "    @KWMethod\n"
+                + "    public static @NonNull String join(@NonNull String first, List<@NonNull String> rest,\n"
+                + "            @NonNull String @NonNull [] more, @KWDefault(\"\\\",\\\"\") java.lang.@NonNull String separator) {\n"
+                + "        return first + separator + String.join(separator, rest) + separator + String.join(separator, more);\n"
+                + "    }\n"
+                + "}\n");
+        Object builder = builder(loader, "demo.NamesKW", "join");
+        set(builder, "first", String.class, "a");
+        set(builder, "rest", List.class, List.of("b", "c"));
+        set(builder, "more", String[].class, new String[]{"d"});
+        assertEquals("a,b,c,d", call(builder));
+    }
+
+    // Compiles one source with the processor, and returns a loader of the classes, generated ones included.
+    private ClassLoader compile(String className, String source) throws IOException {
+        Path file = dir.resolve(className.replace('.', '/') + ".java");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, source, StandardCharsets.UTF_8);
+        Path out = Files.createDirectories(dir.resolve("out"));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            List<String> options = List.of("-classpath", System.getProperty("java.class.path"),
+                    "-d", out.toString(), "-s", out.toString());
+            JavaCompiler.CompilationTask task = compiler.getTask(null, files, diagnostics, options, null, files.getJavaFileObjects(file));
+            task.setProcessors(List.of(new KWMethodProcessor()));
+            boolean ok = task.call();
+            StringBuilder errors = new StringBuilder();
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                    errors.append(diagnostic).append('\n');
+                }
+            }
+            assertTrue(ok, errors.toString());
+        }
+        return new URLClassLoader(new URL[]{out.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    private static Object builder(ClassLoader loader, String className, String methodName) throws Exception {
+        return loader.loadClass(className).getMethod(methodName).invoke(null);
+    }
+
+    private static void set(Object builder, String name, Class<?> type, Object value) throws Exception {
+        builder.getClass().getMethod(name, type).invoke(builder, value);
+    }
+
+    private static Object call(Object builder) throws Exception {
+        Method call = builder.getClass().getMethod("call");
+        return call.invoke(builder);
+    }
+} // end class KWMethodProcessorTest